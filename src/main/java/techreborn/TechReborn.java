@@ -55,17 +55,21 @@ import techreborn.client.GuiType;
 import techreborn.compat.trinkets.Trinkets;
 import techreborn.config.TechRebornConfig;
 import techreborn.events.ModRegistry;
+import techreborn.events.TRRecipeHandler;
 import techreborn.init.FluidGeneratorRecipes;
 import techreborn.init.ModLoot;
 import techreborn.init.ModRecipes;
 import techreborn.init.ModSounds;
 import techreborn.init.TRBlockEntities;
+import techreborn.init.TRCommands;
 import techreborn.init.TRContent;
 import techreborn.init.TRDispenserBehavior;
 import techreborn.items.DynamicCellItem;
 import techreborn.packets.ClientboundPackets;
 import techreborn.packets.ServerboundPackets;
+import techreborn.utils.LeafDecayHandler;
 import techreborn.utils.PoweredCraftingHandler;
+import techreborn.utils.TreeFellingHandler;
 import techreborn.world.WorldGenerator;
 
 import java.util.function.Predicate;
@@ -105,7 +109,11 @@ public class TechReborn implements ModInitializer {
 		TRBlockEntities.THERMAL_GEN.toString();
 		GuiType.AESU.getIdentifier();
 		TRDispenserBehavior.init();
+		TRCommands.init();
 		PoweredCraftingHandler.setup();
+		TreeFellingHandler.setup();
+		LeafDecayHandler.setup();
+		TRRecipeHandler.setup();
 
 		Torus.genSizeMap(TechRebornConfig.fusionControlComputerMaxCoilSize);
 
@@ -56,6 +56,7 @@ import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 import techreborn.items.DynamicCellItem;
 import techreborn.items.FrequencyTransmitterItem;
+import techreborn.packets.ClientboundPacketHandlers;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
@@ -127,6 +128,7 @@ public class TechRebornClient implements ClientModInitializer {
 		});
 
 		StackToolTipHandler.setup();
+		ClientboundPacketHandlers.init();
 
 		GuiBase.wrenchStack = new ItemStack(TRContent.WRENCH);
 		GuiBase.fluidCellProvider = DynamicCellItem::getCellWithFluid;
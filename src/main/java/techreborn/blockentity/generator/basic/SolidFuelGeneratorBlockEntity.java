@@ -43,6 +43,7 @@ import reborncore.common.util.RebornInventory;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
+import techreborn.utils.PoweredItemUtils;
 
 import javax.annotation.Nonnull;
 import java.util.Map;
@@ -80,7 +81,7 @@ public class SolidFuelGeneratorBlockEntity extends PowerAcceptorBlockEntity impl
 		if (world.isClient) {
 			return;
 		}
-		discharge(1);
+		PoweredItemUtils.chargeItem(this, inventory.getInvStack(1), Double.MAX_VALUE);
 		if (getEnergy() < getMaxPower()) {
 			if (burnTime > 0) {
 				burnTime--;
@@ -28,13 +28,18 @@ import net.minecraft.block.Block;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Direction;
 import reborncore.api.IToolDrop;
 import reborncore.api.recipe.IRecipeCrafterProvider;
 import reborncore.api.blockentity.InventoryProvider;
+import reborncore.common.blockentity.FluidConfiguration;
+import reborncore.common.blockentity.SlotConfiguration;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.recipes.RecipeCrafter;
 import reborncore.common.util.RebornInventory;
+import techreborn.config.TechRebornConfig;
+import techreborn.utils.ChunkLoadingBudget;
 
 /**
  * @author drcrazy
@@ -43,6 +48,10 @@ import reborncore.common.util.RebornInventory;
 public abstract class GenericMachineBlockEntity extends PowerAcceptorBlockEntity
 		implements IToolDrop, InventoryProvider, IRecipeCrafterProvider{
 
+	// Idle machines in chunks kept loaded by a chunk loader with no player in range only tick this often
+	private static final int HIBERNATION_INTERVAL = 20;
+	private static final double HIBERNATION_PLAYER_RANGE = 128;
+
 	public String name;
 	public int maxInput;
 	public int maxEnergy;
@@ -50,6 +59,7 @@ public abstract class GenericMachineBlockEntity extends PowerAcceptorBlockEntity
 	public int energySlot;
 	public RebornInventory<?> inventory;
 	public RecipeCrafter crafter;
+	private int hibernationTicks;
 	
 	/**
 	 * @param name String Name for a blockEntity. Do we need it at all?
@@ -78,11 +88,49 @@ public abstract class GenericMachineBlockEntity extends PowerAcceptorBlockEntity
 	// PowerAcceptorBlockEntity
 	@Override
 	public void tick() {
+		if (shouldHibernate()) {
+			// A battery in the energy slot keeps charging the machine while it hibernates
+			charge(energySlot);
+			return;
+		}
 		super.tick();
 		if (!world.isClient) {
 			charge(energySlot);
 		}
 	}
+
+	/**
+	 * An idle machine has no recipe and no inventory change to look at, so the recipe crafter has nothing to do on the
+	 * ticks it skips. Machines set to auto input or output never hibernate, those transfers run in the skipped tick.
+	 * Any inventory change wakes the machine on the next tick.
+	 */
+	private boolean shouldHibernate() {
+		if (world.isClient || !TechRebornConfig.machineHibernation) {
+			return false;
+		}
+		if (crafter == null || crafter.currentRecipe != null || inventory == null || inventory.hasChanged() || hasAutoTransfer()) {
+			hibernationTicks = 0;
+			return false;
+		}
+		if (hibernationTicks > 0) {
+			hibernationTicks--;
+			return true;
+		}
+		if (ChunkLoadingBudget.isLoadedByChunkLoader(world, new ChunkPos(pos))
+				&& !world.isPlayerInRange(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, HIBERNATION_PLAYER_RANGE)) {
+			hibernationTicks = HIBERNATION_INTERVAL - 1;
+		}
+		return false;
+	}
+
+	private boolean hasAutoTransfer() {
+		SlotConfiguration slotConfiguration = getSlotConfiguration();
+		if (slotConfiguration != null && slotConfiguration.getSlotDetails().stream().anyMatch(holder -> holder.autoInput() || holder.autoOutput())) {
+			return true;
+		}
+		FluidConfiguration fluidConfiguration = getFluidConfiguration();
+		return fluidConfiguration != null && (fluidConfiguration.autoInput() || fluidConfiguration.autoOutput());
+	}
 	
 	@Override
 	public double getBaseMaxPower() {
@@ -24,8 +24,13 @@
 
 package techreborn.blockentity.machine.misc;
 
+import net.minecraft.block.BlockState;
+import net.minecraft.block.HopperBlock;
+import net.minecraft.block.entity.HopperBlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
@@ -35,19 +40,104 @@ import reborncore.client.containerBuilder.builder.ContainerBuilder;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.util.RebornInventory;
 import team.reborn.energy.Energy;
+import team.reborn.energy.EnergyHandler;
+import team.reborn.energy.EnergySide;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
+import java.util.BitSet;
+
 public class ChargeOMatBlockEntity extends PowerAcceptorBlockEntity
 	implements IToolDrop, InventoryProvider, IContainerProvider {
 
-	public RebornInventory<ChargeOMatBlockEntity> inventory = new RebornInventory<>(6, "ChargeOMatBlockEntity", 64, this);
+	private static final int SLOT_COUNT = 6;
+	// Ticks between attempts to move charged items out when no neighbour took them
+	private static final int OUTPUT_INTERVAL = 20;
+
+	public RebornInventory<ChargeOMatBlockEntity> inventory = new RebornInventory<>(SLOT_COUNT, "ChargeOMatBlockEntity", 64, this);
+	// Slots holding items that can still take charge, rebuilt when the inventory changes
+	private final BitSet chargingSlots = new BitSet(SLOT_COUNT);
+	// Slots holding fully charged items waiting to be moved out
+	private final BitSet chargedSlots = new BitSet(SLOT_COUNT);
+	private int outputCooldown = 0;
+	private boolean slotsScanned = false;
 
 	public ChargeOMatBlockEntity() {
 		super(TRBlockEntities.CHARGE_O_MAT);
 	}
 
+	private void scanSlots() {
+		chargingSlots.clear();
+		chargedSlots.clear();
+		for (int i = 0; i < SLOT_COUNT; i++) {
+			ItemStack stack = inventory.getInvStack(i);
+			if (stack.isEmpty() || !Energy.valid(stack)) {
+				continue;
+			}
+			EnergyHandler handler = Energy.of(stack);
+			if (handler.getEnergy() < handler.getMaxStored()) {
+				chargingSlots.set(i);
+			} else {
+				chargedSlots.set(i);
+			}
+		}
+	}
+
+	/**
+	 * Splits the available energy evenly between the slots that still need charge. A slot that takes less
+	 * than its share leaves the rest to the slots after it, and no slot gets more than the max output.
+	 */
+	private void chargeSlots() {
+		double available = Math.min(getEnergy(), getMaxOutput(EnergySide.UNKNOWN) * chargingSlots.cardinality());
+		if (available <= 0) {
+			return;
+		}
+		EnergyHandler source = Energy.of(this);
+		int remainingSlots = chargingSlots.cardinality();
+		for (int i = chargingSlots.nextSetBit(0); i >= 0; i = chargingSlots.nextSetBit(i + 1)) {
+			EnergyHandler target = Energy.of(inventory.getInvStack(i));
+			available -= source.into(target).move(available / remainingSlots);
+			remainingSlots--;
+			if (target.getEnergy() >= target.getMaxStored()) {
+				chargingSlots.clear(i);
+				chargedSlots.set(i);
+			}
+		}
+	}
+
+	private void outputChargedItems() {
+		for (int i = chargedSlots.nextSetBit(0); i >= 0; i = chargedSlots.nextSetBit(i + 1)) {
+			ItemStack stack = inventory.getInvStack(i);
+			// Transfer may hand the stack itself to the target, so work on a copy
+			ItemStack remaining = stack.copy();
+			for (Direction direction : Direction.values()) {
+				BlockPos targetPos = pos.offset(direction);
+				if (feedsThisBlock(targetPos)) {
+					continue;
+				}
+				Inventory target = HopperBlockEntity.getInventoryAt(world, targetPos);
+				// Another bench would just send the item back
+				if (target == null || target instanceof ChargeOMatBlockEntity) {
+					continue;
+				}
+				remaining = HopperBlockEntity.transfer(null, target, remaining, direction.getOpposite());
+				if (remaining.isEmpty()) {
+					break;
+				}
+			}
+			if (remaining.getCount() != stack.getCount()) {
+				inventory.setInvStack(i, remaining);
+			}
+		}
+	}
+
+	// A hopper pointing into the bench would insert the charged item again and loop it forever
+	private boolean feedsThisBlock(BlockPos targetPos) {
+		BlockState state = world.getBlockState(targetPos);
+		return state.getBlock() instanceof HopperBlock && targetPos.offset(state.get(HopperBlock.FACING)).equals(pos);
+	}
+
 	// TilePowerAcceptor
 	@Override
 	public void tick() {
@@ -56,17 +146,17 @@ public class ChargeOMatBlockEntity extends PowerAcceptorBlockEntity
 		if(world.isClient){
 			return;
 		}
-		for (int i = 0; i < 6; i++) {
-			ItemStack stack = inventory.getInvStack(i);
-
-			if (Energy.valid(stack)) {
-				Energy.of(this)
-					.into(
-						Energy
-							.of(stack)
-					)
-					.move();
-			}
+		if (!slotsScanned || inventory.hasChanged()) {
+			scanSlots();
+			slotsScanned = true;
+			inventory.resetChanged();
+		}
+		if (!chargingSlots.isEmpty()) {
+			chargeSlots();
+		}
+		if (!chargedSlots.isEmpty() && TechRebornConfig.chargeOMatOutputCharged && --outputCooldown <= 0) {
+			outputCooldown = OUTPUT_INTERVAL;
+			outputChargedItems();
 		}
 	}
 
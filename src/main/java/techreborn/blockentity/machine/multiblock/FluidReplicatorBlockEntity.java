@@ -40,6 +40,7 @@ import techreborn.init.ModRecipes;
 import techreborn.init.TRContent;
 import techreborn.init.TRBlockEntities;
 import techreborn.blockentity.machine.GenericMachineBlockEntity;
+import techreborn.utils.FluidContainerTracker;
 import techreborn.utils.FluidUtils;
 
 import javax.annotation.Nullable;
@@ -54,12 +55,14 @@ public class FluidReplicatorBlockEntity extends GenericMachineBlockEntity implem
 	public static final FluidValue TANK_CAPACITY = FluidValue.BUCKET.multiply(16);
 	public Tank tank;
 	int ticksSinceLastChange;
+	FluidContainerTracker containerTracker;
 
 	public FluidReplicatorBlockEntity() {
 		super(TRBlockEntities.FLUID_REPLICATOR, "FluidReplicator", TechRebornConfig.fluidReplicatorMaxInput, TechRebornConfig.fluidReplicatorMaxEnergy, TRContent.Machine.FLUID_REPLICATOR.block, 3);
 		this.inventory = new RebornInventory<>(4, "FluidReplicatorBlockEntity", 64, this, getInventoryAccess());
 		this.crafter = new RecipeCrafter(ModRecipes.FLUID_REPLICATOR, this, 1, 0, this.inventory, new int[] {0}, null);
 		this.tank = new Tank("FluidReplicatorBlockEntity", FluidReplicatorBlockEntity.TANK_CAPACITY, this);
+		this.containerTracker = new FluidContainerTracker(tank, inventory, 1, 2);
 	}
 
 	public boolean getMultiBlock() {
@@ -83,7 +86,7 @@ public class FluidReplicatorBlockEntity extends GenericMachineBlockEntity implem
 		// Check cells input slot 2 time per second
 		if (!world.isClient && ticksSinceLastChange >= 10) {
 			if (!inventory.getInvStack(1).isEmpty()) {
-				FluidUtils.fillContainers(tank, inventory, 1, 2, tank.getFluid());
+				containerTracker.process(() -> FluidUtils.fillContainers(tank, inventory, 1, 2, tank.getFluid()));
 			}
 			ticksSinceLastChange = 0;
 		}
@@ -52,6 +52,8 @@ import java.util.List;
 public class FusionControlComputerBlockEntity extends PowerAcceptorBlockEntity
 		implements IToolDrop, InventoryProvider, IContainerProvider {
 
+	private static final Identifier NO_RECIPE_ID = new Identifier("null", "null");
+
 	public RebornInventory<FusionControlComputerBlockEntity> inventory;
 
 	public int coilCount = 0;
@@ -443,8 +445,11 @@ public class FusionControlComputerBlockEntity extends PowerAcceptorBlockEntity
 	}
 
 	public void changeSize(int sizeDelta){
-		int newSize = size + sizeDelta;
-		this.size = Math.max(6, Math.min(TechRebornConfig.fusionControlComputerMaxCoilSize, newSize));
+		this.size = clampSize(size + sizeDelta);
+	}
+
+	public static int clampSize(int size){
+		return Math.max(6, Math.min(TechRebornConfig.fusionControlComputerMaxCoilSize, size));
 	}
 
 	public int getState(){
@@ -463,7 +468,7 @@ public class FusionControlComputerBlockEntity extends PowerAcceptorBlockEntity
 
 	public Identifier getCurrentRecipeID() {
 		if(currentRecipe == null) {
-			return new Identifier("null", "null");
+			return NO_RECIPE_ID;
 		}
 		return currentRecipe.getId();
 	}
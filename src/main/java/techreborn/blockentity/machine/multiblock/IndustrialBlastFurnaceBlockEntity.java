@@ -24,6 +24,7 @@
 
 package techreborn.blockentity.machine.multiblock;
 
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Material;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -48,6 +49,12 @@ public class IndustrialBlastFurnaceBlockEntity extends GenericMachineBlockEntity
 
 	public MultiblockChecker multiblockChecker;
 	private int cachedHeat;
+	// What the heat was last worked out from, heat is only worked out again once one of these changes
+	private MultiBlockCasing heatCasing;
+	private int heatCasingVersion;
+	private BlockState heatBelowState;
+	private BlockState heatLowerState;
+	private BlockState heatUpperState;
 
 	public IndustrialBlastFurnaceBlockEntity() {
 		super(TRBlockEntities.INDUSTRIAL_BLAST_FURNACE, "IndustrialBlastFurnace", TechRebornConfig.industrialBlastFurnaceMaxInput, TechRebornConfig.industrialBlastFurnaceMaxEnergy, TRContent.Machine.INDUSTRIAL_BLAST_FURNACE.block, 4);
@@ -58,6 +65,10 @@ public class IndustrialBlastFurnaceBlockEntity extends GenericMachineBlockEntity
 	}
 	
 	public int getHeat() {
+		return cachedHeat;
+	}
+
+	private int calculateHeat() {
 		if (!getMutliBlock()){
 			return 0;
 		}
@@ -113,8 +124,27 @@ public class IndustrialBlastFurnaceBlockEntity extends GenericMachineBlockEntity
 		cachedHeat = heat;
 	}
 
-	public int getCachedHeat() {
-		return cachedHeat;
+	/**
+	 * Checks the casing controller and the blocks heat depends on that aren't casings. Casings being added, removed
+	 * or swapped all go through the controller, so this reads far fewer blocks than working the heat out.
+	 */
+	private boolean hasHeatSourceChanged() {
+		final BlockPos location = pos.offset(getFacing().getOpposite(), 2);
+		final BlockEntity blockEntity = world.getBlockEntity(location);
+		final MultiBlockCasing casing = blockEntity instanceof MachineCasingBlockEntity ? ((MachineCasingBlockEntity) blockEntity).getMultiblockController() : null;
+		final int casingVersion = casing != null ? casing.getStructureVersion() : 0;
+		final BlockState below = world.getBlockState(location.down());
+		final BlockState lower = world.getBlockState(location.up(1));
+		final BlockState upper = world.getBlockState(location.up(2));
+
+		final boolean changed = casing != heatCasing || casingVersion != heatCasingVersion
+				|| below != heatBelowState || lower != heatLowerState || upper != heatUpperState;
+		heatCasing = casing;
+		heatCasingVersion = casingVersion;
+		heatBelowState = below;
+		heatLowerState = lower;
+		heatUpperState = upper;
+		return changed;
 	}
 	
 	// TileGenericMachine
@@ -124,6 +154,9 @@ public class IndustrialBlastFurnaceBlockEntity extends GenericMachineBlockEntity
 			final BlockPos downCenter = pos.offset(getFacing().getOpposite(), 2);
 			multiblockChecker = new MultiblockChecker(world, downCenter);
 		}
+		if (!world.isClient && hasHeatSourceChanged()) {
+			cachedHeat = calculateHeat();
+		}
 		super.tick();
 	}
 	
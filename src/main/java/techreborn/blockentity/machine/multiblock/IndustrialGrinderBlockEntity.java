@@ -43,6 +43,7 @@ import techreborn.init.ModRecipes;
 import techreborn.init.TRContent;
 import techreborn.init.TRBlockEntities;
 import techreborn.blockentity.machine.GenericMachineBlockEntity;
+import techreborn.utils.FluidContainerTracker;
 import techreborn.utils.FluidUtils;
 
 import javax.annotation.Nullable;
@@ -53,6 +54,7 @@ public class IndustrialGrinderBlockEntity extends GenericMachineBlockEntity impl
 	public Tank tank;
 	public MultiblockChecker multiblockChecker;
 	int ticksSinceLastChange;
+	FluidContainerTracker containerTracker;
 
 	public IndustrialGrinderBlockEntity() {
 		super(TRBlockEntities.INDUSTRIAL_GRINDER, "IndustrialGrinder", TechRebornConfig.industrialGrinderMaxInput, TechRebornConfig.industrialGrinderMaxEnergy, TRContent.Machine.INDUSTRIAL_GRINDER.block, 7);
@@ -61,6 +63,7 @@ public class IndustrialGrinderBlockEntity extends GenericMachineBlockEntity impl
 		this.inventory = new RebornInventory<>(8, "IndustrialGrinderBlockEntity", 64, this);
 		this.crafter = new RecipeCrafter(ModRecipes.INDUSTRIAL_GRINDER, this, 1, 4, this.inventory, inputs, outputs);
 		this.tank = new Tank("IndustrialGrinderBlockEntity", IndustrialGrinderBlockEntity.TANK_CAPACITY, this);
+		this.containerTracker = new FluidContainerTracker(tank, inventory, 1, 6);
 		this.ticksSinceLastChange = 0;
 	}
 
@@ -90,8 +93,10 @@ public class IndustrialGrinderBlockEntity extends GenericMachineBlockEntity impl
 		// Check cells input slot 2 time per second
 		if (!world.isClient && ticksSinceLastChange >= 10) {
 			if (!inventory.getInvStack(1).isEmpty()) {
-				FluidUtils.drainContainers(tank, inventory, 1, 6);
-				FluidUtils.fillContainers(tank, inventory, 1, 6, tank.getFluid());
+				containerTracker.process(() -> {
+					FluidUtils.drainContainers(tank, inventory, 1, 6);
+					FluidUtils.fillContainers(tank, inventory, 1, 6, tank.getFluid());
+				});
 			}
 			ticksSinceLastChange = 0;
 		}
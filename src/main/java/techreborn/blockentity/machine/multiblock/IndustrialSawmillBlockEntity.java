@@ -43,6 +43,7 @@ import techreborn.init.ModRecipes;
 import techreborn.init.TRContent;
 import techreborn.init.TRBlockEntities;
 import techreborn.blockentity.machine.GenericMachineBlockEntity;
+import techreborn.utils.FluidContainerTracker;
 import techreborn.utils.FluidUtils;
 
 import javax.annotation.Nullable;
@@ -53,6 +54,7 @@ public class IndustrialSawmillBlockEntity extends GenericMachineBlockEntity impl
 	public Tank tank;
 	public MultiblockChecker multiblockChecker;
 	int ticksSinceLastChange;
+	FluidContainerTracker containerTracker;
 
 	public IndustrialSawmillBlockEntity() {
 		super(TRBlockEntities.INDUSTRIAL_SAWMILL, "IndustrialSawmill", TechRebornConfig.industrialSawmillMaxInput, TechRebornConfig.industrialSawmillMaxEnergy, TRContent.Machine.INDUSTRIAL_SAWMILL.block, 6);
@@ -61,6 +63,7 @@ public class IndustrialSawmillBlockEntity extends GenericMachineBlockEntity impl
 		this.inventory = new RebornInventory<>(7, "SawmillBlockEntity", 64, this);
 		this.crafter = new RecipeCrafter(ModRecipes.INDUSTRIAL_SAWMILL, this, 1, 3, this.inventory, inputs, outputs);
 		this.tank = new Tank("SawmillBlockEntity", IndustrialSawmillBlockEntity.TANK_CAPACITY, this);
+		this.containerTracker = new FluidContainerTracker(tank, inventory, 1, 5);
 		this.ticksSinceLastChange = 0;
 	}
 
@@ -90,8 +93,10 @@ public class IndustrialSawmillBlockEntity extends GenericMachineBlockEntity impl
 		// Check cells input slot 2 time per second
 		if (!world.isClient && ticksSinceLastChange >= 10) {
 			if (!inventory.getInvStack(1).isEmpty()) {
-				FluidUtils.drainContainers(tank, inventory, 1, 5);
-				FluidUtils.fillContainers(tank, inventory, 1, 5, tank.getFluidInstance().getFluid());
+				containerTracker.process(() -> {
+					FluidUtils.drainContainers(tank, inventory, 1, 5);
+					FluidUtils.fillContainers(tank, inventory, 1, 5, tank.getFluidInstance().getFluid());
+				});
 			}
 			ticksSinceLastChange = 0;
 		}
@@ -45,6 +45,7 @@ import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -55,9 +56,18 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 	private BlockPos multiblockCenter;
 	private int ticksToNextMultiblockCheck = 0;
 	private boolean growthBoost = false;
+
+	private static final int AREA_SIZE = 9;
+	private static final int AREA_RADIUS = AREA_SIZE / 2;
+	// Last known state of every column in the 9x9 area, indexed by x * AREA_SIZE + z
+	private final PlantState[] plantStates = new PlantState[AREA_SIZE * AREA_SIZE];
+	private int scanCursor = 0;
+	private int harvestCursor = 0;
+	private int growCursor = 0;
 	
 	public GreenhouseControllerBlockEntity() {
 		super(TRBlockEntities.GREENHOUSE_CONTROLLER);
+		Arrays.fill(plantStates, PlantState.EMPTY);
 	}
 	
 	public boolean getMultiBlock() {
@@ -97,6 +107,7 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 		}
 		
 		if (world.getTime() % 20 == 0) {
+			scanArea();
 			double cyclesLimit = getSpeedMultiplier() * 4 + 1;
 			while (cyclesLimit-- > 0) {
 				workCycle();
@@ -106,23 +117,107 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 	}
 	
 	private void workCycle() {
-		BlockPos blockPos = multiblockCenter.add(world.random.nextInt(9) - 4, 0, world.random.nextInt(9) - 4);
+		int index = findPlant(PlantState.READY, harvestCursor);
+		if (index >= 0) {
+			harvestCursor = (index + 1) % plantStates.length;
+			harvestPlant(index);
+		}
+
+		if (growthBoost) {
+			index = findPlant(PlantState.GROWING, growCursor);
+			if (index >= 0) {
+				growCursor = (index + 1) % plantStates.length;
+				growPlant(index);
+			}
+		}
+	}
+
+	/**
+	 * Refreshes the next row of the plant registry once a second, so that changes made by something other than
+	 * this controller (players, natural growth, other machines) are picked up over time. Positions the controller
+	 * harvests or grows are classified again right away.
+	 */
+	private void scanArea() {
+		for (int i = 0; i < AREA_SIZE; i++) {
+			plantStates[scanCursor] = classifyPlant(getAreaPos(scanCursor));
+			scanCursor = (scanCursor + 1) % plantStates.length;
+		}
+	}
+
+	private int findPlant(PlantState state, int start) {
+		for (int i = 0; i < plantStates.length; i++) {
+			int index = (start + i) % plantStates.length;
+			if (plantStates[index] == state) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private BlockPos getAreaPos(int index) {
+		return multiblockCenter.add(index / AREA_SIZE - AREA_RADIUS, 0, index % AREA_SIZE - AREA_RADIUS);
+	}
+
+	private PlantState classifyPlant(BlockPos blockPos) {
 		BlockState blockState = world.getBlockState(blockPos);
 		Block block = blockState.getBlock();
-		
-		if (growthBoost) {
-			if (block instanceof Fertilizable
-					|| block instanceof PlantBlock
-					|| block instanceof SugarCaneBlock
-					|| block instanceof CactusBlock
-			) {
-				if (canUseEnergy(TechRebornConfig.greenhouseControllerEnergyPerBonemeal)) {
-					useEnergy(TechRebornConfig.greenhouseControllerEnergyPerBonemeal);
-					blockState.scheduledTick((ServerWorld) world, blockPos, world.random);
+
+		if (block instanceof CropBlock) {
+			return getAgedCropState(blockState, ((CropBlock) block).getAgeProperty(), ((CropBlock) block).getMaxAge());
+		} else if (block instanceof NetherWartBlock) {
+			return getAgedCropState(blockState, NetherWartBlock.AGE, 3);
+		} else if (block instanceof SweetBerryBushBlock) {
+			return getAgedCropState(blockState, SweetBerryBushBlock.AGE, 3);
+		} else if (block instanceof CocoaBlock) {
+			return getAgedCropState(blockState, CocoaBlock.AGE, 2);
+		} else if (block instanceof GourdBlock) {
+			return PlantState.READY;
+		} else if (block instanceof SugarCaneBlock
+				|| block instanceof CactusBlock
+				|| block instanceof BambooBlock
+		) {
+			return world.getBlockState(blockPos.up()).getBlock() == block ? PlantState.READY : PlantState.GROWING;
+		} else if (block instanceof BlockRubberLog) {
+			for (int y = 0; (blockState = world.getBlockState(blockPos.up(y))).getBlock() == block && y < 10; y++) {
+				if (blockState.get(BlockRubberLog.HAS_SAP)) {
+					return PlantState.READY;
 				}
 			}
+			return PlantState.EMPTY;
+		} else if (isGrowable(block)) {
+			return PlantState.GROWING;
 		}
-		
+		return PlantState.EMPTY;
+	}
+
+	private PlantState getAgedCropState(BlockState blockState, IntProperty ageProperty, int maxAge) {
+		return blockState.get(ageProperty) >= maxAge ? PlantState.READY : PlantState.GROWING;
+	}
+
+	private boolean isGrowable(Block block) {
+		return block instanceof Fertilizable
+				|| block instanceof PlantBlock
+				|| block instanceof SugarCaneBlock
+				|| block instanceof CactusBlock;
+	}
+
+	private void growPlant(int index) {
+		BlockPos blockPos = getAreaPos(index);
+		BlockState blockState = world.getBlockState(blockPos);
+
+		if (isGrowable(blockState.getBlock())
+				&& canUseEnergy(TechRebornConfig.greenhouseControllerEnergyPerBonemeal)) {
+			useEnergy(TechRebornConfig.greenhouseControllerEnergyPerBonemeal);
+			blockState.scheduledTick((ServerWorld) world, blockPos, world.random);
+		}
+		plantStates[index] = classifyPlant(blockPos);
+	}
+
+	private void harvestPlant(int index) {
+		BlockPos blockPos = getAreaPos(index);
+		BlockState blockState = world.getBlockState(blockPos);
+		Block block = blockState.getBlock();
+
 		if (block instanceof CropBlock) {
 			processAgedCrop(blockState, blockPos, ((CropBlock) block).getAgeProperty(), ((CropBlock) block).getMaxAge(), 0);
 		} else if (block instanceof NetherWartBlock) {
@@ -160,7 +255,7 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 				}
 			}
 		}
-		
+		plantStates[index] = classifyPlant(blockPos);
 	}
 	
 	private void processAgedCrop(BlockState blockState, BlockPos blockPos, IntProperty ageProperty, int maxAge, int newAge) {
@@ -262,4 +357,10 @@ public class GreenhouseControllerBlockEntity extends PowerAcceptorBlockEntity
 				.addInventory().create(this, syncID);
 	}
 	
+	private enum PlantState {
+		EMPTY,
+		GROWING,
+		READY
+	}
+
 }
@@ -36,9 +36,14 @@ import techreborn.blocks.machine.tier1.BlockPlayerDetector.PlayerDetectorType;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
 import techreborn.init.TRBlockEntities;
+import techreborn.utils.PlayerSpatialIndex;
+
+import java.util.List;
 
 public class PlayerDectectorBlockEntity extends PowerAcceptorBlockEntity implements IToolDrop {
 
+	// Detection range in blocks
+	private static final double RANGE = 256.0D;
 
 	public String owenerUdid = "";
 	boolean redstone = false;
@@ -59,9 +64,10 @@ public class PlayerDectectorBlockEntity extends PowerAcceptorBlockEntity impleme
 			boolean lastRedstone = redstone;
 			redstone = false;
 			if (canUseEnergy(TechRebornConfig.playerDetectorEuPerTick)) {
-				for(PlayerEntity player : world.getPlayers()){
-					if (player.distanceTo(player) <= 256.0D) {
-						PlayerDetectorType type = world.getBlockState(pos).get(BlockPlayerDetector.TYPE);
+				List<PlayerEntity> players = PlayerSpatialIndex.getPlayersInRange(world, pos, RANGE);
+				if (!players.isEmpty()) {
+					PlayerDetectorType type = world.getBlockState(pos).get(BlockPlayerDetector.TYPE);
+					for (PlayerEntity player : players) {
 						if (type == PlayerDetectorType.ALL) {// ALL
 							redstone = true;
 						} else if (type == PlayerDetectorType.OTHERS) {// Others
@@ -73,6 +79,9 @@ public class PlayerDectectorBlockEntity extends PowerAcceptorBlockEntity impleme
 								redstone = true;
 							}
 						}
+						if (redstone) {
+							break;
+						}
 					}
 				}
 				useEnergy(TechRebornConfig.playerDetectorEuPerTick);
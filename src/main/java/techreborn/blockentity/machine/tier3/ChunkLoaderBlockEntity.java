@@ -24,6 +24,8 @@
 
 package techreborn.blockentity.machine.tier3;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -45,14 +47,30 @@ import reborncore.common.util.RebornInventory;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
+import techreborn.utils.ChunkLoadingBudget;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 public class ChunkLoaderBlockEntity extends MachineBaseBlockEntity implements IToolDrop, InventoryProvider, IContainerProvider {
 
+	// New tickets added per tick when the radius grows, so a large increase doesn't load every chunk at once
+	private static final int CHUNKS_LOADED_PER_TICK = 4;
+	// Ticks to wait before asking for chunks again that were refused because the owner's budget was used up
+	private static final int QUOTA_RETRY_INTERVAL = 100;
+
 	public RebornInventory<ChunkLoaderBlockEntity> inventory = new RebornInventory<>(0, "ChunkLoaderBlockEntity", 64, this);
 	private int radius;
 	private String ownerUdid;
+	// Radius the tickets were last requested for, 0 when nothing is loaded
+	private int loadedRadius;
+	private final ArrayDeque<ChunkPos> pendingChunks = new ArrayDeque<>();
+	// Chunks counted against the owner's budget, see ChunkLoadingBudget
+	private final LongOpenHashSet acquiredChunks = new LongOpenHashSet();
+	private boolean budgetChecked;
+	private int quotaRetryTicks;
 
 	public ChunkLoaderBlockEntity() {
 		super(TRBlockEntities.CHUNK_LOADER );
@@ -60,14 +78,7 @@ public class ChunkLoaderBlockEntity extends MachineBaseBlockEntity implements IT
 	}
 	
 	public void handleGuiInputFromClient(int buttonID, @Nullable PlayerEntity playerEntity) {
-		radius += buttonID;
-
-		if (radius > TechRebornConfig.chunkLoaderMaxRadius) {
-			radius = TechRebornConfig.chunkLoaderMaxRadius;
-		}
-		if (radius <= 1) {
-			radius = 1;
-		}
+		radius = clampRadius(radius + buttonID);
 
 		reload();
 
@@ -77,28 +88,112 @@ public class ChunkLoaderBlockEntity extends MachineBaseBlockEntity implements IT
 		}
 	}
 
+	public static int clampRadius(int radius) {
+		if (radius > TechRebornConfig.chunkLoaderMaxRadius) {
+			radius = TechRebornConfig.chunkLoaderMaxRadius;
+		}
+		if (radius <= 1) {
+			radius = 1;
+		}
+		return radius;
+	}
+
 	@Override
 	public ItemStack getToolDrop(final PlayerEntity entityPlayer) {
 		return TRContent.Machine.CHUNK_LOADER.getStack();
 	}
 
+	/**
+	 * Updates the tickets for a changed radius. Only chunks leaving the radius are released, chunks entering it
+	 * are queued and loaded nearest first over the following ticks.
+	 */
 	private void reload(){
-		unloadAll();
-		load();
+		ChunkLoaderManager manager = ChunkLoaderManager.get(getWorld());
+		ChunkPos rootPos = getChunkPos();
+		int oldRadius = loadedRadius - 1;
+		int newRadius = radius - 1;
+
+		for (int i = -oldRadius; i <= oldRadius; i++) {
+			for (int j = -oldRadius; j <= oldRadius; j++) {
+				if (Math.abs(i) <= newRadius && Math.abs(j) <= newRadius) {
+					continue;
+				}
+				ChunkPos unloadPos = new ChunkPos(rootPos.x + i, rootPos.z + j);
+				if (acquiredChunks.remove(unloadPos.toLong())) {
+					ChunkLoadingBudget.release(getWorld(), ownerUdid, unloadPos);
+				}
+				if (manager.isChunkLoaded(getWorld(), unloadPos, getPos())) {
+					manager.unloadChunk(getWorld(), unloadPos, getPos());
+				}
+			}
+		}
+
+		queueChunks();
+		loadedRadius = radius;
+		loadPending();
 	}
 
-	private void load(){
-		ChunkLoaderManager manager = ChunkLoaderManager.get(getWorld());
+	private void queueChunks(){
 		ChunkPos rootPos = getChunkPos();
-		int loadRadius = radius -1;
-		for (int i = -loadRadius; i <= loadRadius; i++) {
-			for (int j = -loadRadius; j <= loadRadius; j++) {
-				ChunkPos loadPos = new ChunkPos(rootPos.x + i, rootPos.z + j);
+		int newRadius = radius - 1;
+		pendingChunks.clear();
+		for (int ring = 0; ring <= newRadius; ring++) {
+			for (int i = -ring; i <= ring; i++) {
+				for (int j = -ring; j <= ring; j++) {
+					if (Math.max(Math.abs(i), Math.abs(j)) == ring) {
+						pendingChunks.add(new ChunkPos(rootPos.x + i, rootPos.z + j));
+					}
+				}
+			}
+		}
+		budgetChecked = true;
+	}
 
-				if(!manager.isChunkLoaded(getWorld(), loadPos, getPos())){
-					manager.loadChunk(getWorld(), loadPos, getPos(), ownerUdid);
+	private void loadPending(){
+		ChunkLoaderManager manager = ChunkLoaderManager.get(getWorld());
+		List<ChunkPos> refused = new ArrayList<>();
+		int loaded = 0;
+		while (loaded < CHUNKS_LOADED_PER_TICK && !pendingChunks.isEmpty()) {
+			ChunkPos loadPos = pendingChunks.poll();
+			if (!acquiredChunks.contains(loadPos.toLong())) {
+				if (!ChunkLoadingBudget.acquire(getWorld(), ownerUdid, loadPos)) {
+					// Over quota, also drops tickets restored from before a restart or a config change
+					if (manager.isChunkLoaded(getWorld(), loadPos, getPos())) {
+						manager.unloadChunk(getWorld(), loadPos, getPos());
+					}
+					refused.add(loadPos);
+					continue;
 				}
+				acquiredChunks.add(loadPos.toLong());
+			}
+			if(!manager.isChunkLoaded(getWorld(), loadPos, getPos())){
+				manager.loadChunk(getWorld(), loadPos, getPos(), ownerUdid);
+				loaded++;
+			}
+		}
+		if (!refused.isEmpty()) {
+			// Kept at the front of the queue, nearest first, and asked for again once budget may have been freed
+			for (int i = refused.size() - 1; i >= 0; i--) {
+				pendingChunks.addFirst(refused.get(i));
 			}
+			quotaRetryTicks = QUOTA_RETRY_INTERVAL;
+		}
+	}
+
+	@Override
+	public void tick() {
+		super.tick();
+		if (world == null || world.isClient) {
+			return;
+		}
+		if (!budgetChecked && loadedRadius > 0) {
+			// Tickets survive restarts but the budget doesn't, count them again
+			queueChunks();
+		}
+		if (quotaRetryTicks > 0) {
+			quotaRetryTicks--;
+		} else if (!pendingChunks.isEmpty()) {
+			loadPending();
 		}
 	}
 
@@ -124,6 +219,27 @@ public class ChunkLoaderBlockEntity extends MachineBaseBlockEntity implements IT
 	private void unloadAll(){
 		ChunkLoaderManager manager = ChunkLoaderManager.get(world);
 		manager.unloadChunkLoader(world, getPos());
+		releaseBudget();
+		pendingChunks.clear();
+		quotaRetryTicks = 0;
+		loadedRadius = 0;
+	}
+
+	private void releaseBudget(){
+		LongIterator iterator = acquiredChunks.iterator();
+		while (iterator.hasNext()) {
+			ChunkLoadingBudget.release(world, ownerUdid, new ChunkPos(iterator.nextLong()));
+		}
+		acquiredChunks.clear();
+	}
+
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+		// Tickets are left to the chunk loader manager, only the budget is given back
+		if (world != null && !world.isClient) {
+			releaseBudget();
+		}
 	}
 
 	public ChunkPos getChunkPos(){
@@ -143,6 +259,8 @@ public class ChunkLoaderBlockEntity extends MachineBaseBlockEntity implements IT
 	public void fromTag(CompoundTag nbttagcompound) {
 		super.fromTag(nbttagcompound);
 		this.radius = nbttagcompound.getInt("radius");
+		// Tickets are kept by the chunk loader manager across restarts
+		this.loadedRadius = radius;
 		this.ownerUdid = nbttagcompound.getString("ownerUdid");
 		if(!StringUtils.isBlank(ownerUdid)){
 			nbttagcompound.putString("ownerUdid", this.ownerUdid);
@@ -64,14 +64,17 @@ public class AdjustableSUBlockEntity extends EnergyStorageBlockEntity implements
 			id *= 8;
 		}
 
-		OUTPUT += id;
+		OUTPUT = clampOutput(OUTPUT + id);
+	}
 
-		if (OUTPUT > getMaxConfigOutput()) {
-			OUTPUT = getMaxConfigOutput();
+	public int clampOutput(int output) {
+		if (output > getMaxConfigOutput()) {
+			output = getMaxConfigOutput();
 		}
-		if (OUTPUT <= 0) {
-			OUTPUT = 0;
+		if (output <= 0) {
+			output = 0;
 		}
+		return output;
 	}
 
 	public ItemStack getDropWithNBT() {
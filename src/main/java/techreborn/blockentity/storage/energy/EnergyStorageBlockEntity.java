@@ -33,9 +33,9 @@ import reborncore.api.IToolDrop;
 import reborncore.api.blockentity.InventoryProvider;
 import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
 import reborncore.common.util.RebornInventory;
-import team.reborn.energy.Energy;
 import team.reborn.energy.EnergyTier;
 import techreborn.blocks.storage.energy.EnergyStorageBlock;
+import techreborn.utils.PoweredItemUtils;
 
 /**
  * Created by Rushmead
@@ -71,18 +71,8 @@ public class EnergyStorageBlockEntity extends PowerAcceptorBlockEntity
 		if (world.isClient) {
 			return;
 		}
-		if (!inventory.getInvStack(0).isEmpty()) {
-			ItemStack stack = inventory.getInvStack(0);
-
-			if (Energy.valid(stack)) {
-				Energy.of(this)
-						.into(Energy.of(stack))
-						.move(tier.getMaxInput());
-			}
-		}
-		if (!inventory.getInvStack(1).isEmpty()) {
-			charge(1);
-		}
+		PoweredItemUtils.chargeItem(this, inventory.getInvStack(0), tier.getMaxInput());
+		PoweredItemUtils.dischargeItem(this, inventory.getInvStack(1), Double.MAX_VALUE);
 	}
 	
 	@Override
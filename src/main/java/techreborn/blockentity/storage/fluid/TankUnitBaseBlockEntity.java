@@ -26,6 +26,8 @@ package techreborn.blockentity.storage.fluid;
 
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.Fluids;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.text.LiteralText;
@@ -42,11 +44,14 @@ import reborncore.client.containerBuilder.builder.ContainerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
 import reborncore.common.fluid.FluidUtil;
 import reborncore.common.fluid.FluidValue;
+import reborncore.common.network.NetworkManager;
 import reborncore.common.util.RebornInventory;
 import reborncore.common.util.StringUtils;
 import reborncore.common.util.Tank;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
+import techreborn.packets.ClientboundPackets;
+import techreborn.utils.FluidContainerTracker;
 import techreborn.utils.FluidUtils;
 
 import javax.annotation.Nonnull;
@@ -58,6 +63,11 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 
 	private TRContent.TankUnit type;
 
+	private FluidContainerTracker containerTracker;
+	// Last fluid state sent to clients, amount changes are sent as a small delta packet
+	private Fluid syncedFluid;
+	private int syncedAmount;
+
 	public TankUnitBaseBlockEntity() {
 		super(TRBlockEntities.TANK_UNIT);
 	}
@@ -86,16 +96,54 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 			return;
 		}
 
-		if (FluidUtils.drainContainers(tank, inventory, 0, 1)
-			|| FluidUtils.fillContainers(tank, inventory, 0, 1, tank.getFluid())) {
+		if (containerTracker == null) {
+			containerTracker = new FluidContainerTracker(tank, inventory, 0, 1);
+		}
 
-			if (type == TRContent.TankUnit.CREATIVE) {
-				if (!tank.isEmpty() && !tank.isFull()) {
-					tank.setFluidAmount(FluidValue.INFINITE);
-				}
+		// Only look at the container slots when they or the tank changed since the last attempt
+		containerTracker.process(() -> {
+			if (!FluidUtils.drainContainers(tank, inventory, 0, 1)) {
+				FluidUtils.fillContainers(tank, inventory, 0, 1, tank.getFluid());
 			}
-			syncWithAll();
+		});
+
+		if (type == TRContent.TankUnit.CREATIVE) {
+			if (!tank.isEmpty() && !tank.isFull()) {
+				tank.setFluidAmount(FluidValue.INFINITE);
+			}
+		}
+
+		syncTank();
+	}
+
+	private void syncTank() {
+		Fluid fluid = tank.getFluid();
+		int amount = tank.getFluidAmount().getRawValue();
+
+		if (fluid == syncedFluid && amount == syncedAmount) {
+			return;
+		}
+
+		// On the first call clients already have the current state from the chunk data
+		if (syncedFluid != null) {
+			if (fluid != syncedFluid) {
+				syncWithAll();
+			} else {
+				NetworkManager.sendToTracking(ClientboundPackets.createPacketTankUnitAmount(this), this);
+			}
+		}
+
+		syncedFluid = fluid;
+		syncedAmount = amount;
+	}
+
+	// Client side counterpart of ClientboundPackets.createPacketTankUnitAmount
+	public void applyFluidAmountSync(int amount) {
+		if (tank == null || tank.getFluid() == Fluids.EMPTY) {
+			// Fluid type changes are always sent as a full sync
+			return;
 		}
+		tank.setFluidAmount(FluidValue.fromRaw(amount));
 	}
 
 	@Override
@@ -106,6 +154,8 @@ public class TankUnitBaseBlockEntity extends MachineBaseBlockEntity implements I
 	@Override
 	public void fromTag(final CompoundTag tagCompound) {
 		super.fromTag(tagCompound);
+		// The tank gets replaced below
+		containerTracker = null;
 		if (tagCompound.contains("unitType")) {
 			this.type = TRContent.TankUnit.valueOf(tagCompound.getString("unitType"));
 			configureEntity(type);
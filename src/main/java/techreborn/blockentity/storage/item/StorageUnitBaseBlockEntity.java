@@ -42,12 +42,15 @@ import reborncore.client.containerBuilder.IContainerProvider;
 import reborncore.client.containerBuilder.builder.BuiltContainer;
 import reborncore.client.containerBuilder.builder.ContainerBuilder;
 import reborncore.common.blockentity.MachineBaseBlockEntity;
+import reborncore.common.network.NetworkManager;
 import reborncore.common.util.ItemUtils;
 import reborncore.common.util.RebornInventory;
 import reborncore.common.util.StringUtils;
 import reborncore.common.util.WorldUtils;
+import techreborn.config.TechRebornConfig;
 import techreborn.init.TRBlockEntities;
 import techreborn.init.TRContent;
+import techreborn.packets.ClientboundPackets;
 
 import java.util.List;
 
@@ -60,11 +63,13 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 	private static final int OUTPUT_SLOT = 1;
 
 	protected RebornInventory<StorageUnitBaseBlockEntity> inventory;
-	private int maxCapacity;
+	private long maxCapacity;
 
 	private boolean shouldUpdate = false;
 
+	// Only carries the stored item type, the amount is kept in storedAmount so it is not limited to an int
 	private ItemStack storeItemStack;
+	private long storedAmount = 0;
 
 	private TRContent.StorageUnit type;
 
@@ -72,6 +77,12 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 	// the locked-in item, even if the stored amount drops to zero.
 	private ItemStack lockedItemStack = ItemStack.EMPTY;
 
+	// Client sync state. Count changes are coalesced into a small delta packet, the full
+	// block entity tag is only resent when the stored item type changes.
+	private ItemStack syncedItemStack = ItemStack.EMPTY;
+	private boolean countChanged = false;
+	private long lastCountSync = 0;
+
 	public StorageUnitBaseBlockEntity() {
 		super(TRBlockEntities.STORAGE_UNIT);
 	}
@@ -86,6 +97,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 		super(blockEntityTypeIn);
 		this.maxCapacity = maxCapacity;
 		storeItemStack = ItemStack.EMPTY;
+		storedAmount = 0;
 		type = TRContent.StorageUnit.QUANTUM;
 		inventory = new RebornInventory<>(3, name, maxCapacity, this);
 	}
@@ -93,6 +105,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 	private void configureEntity(TRContent.StorageUnit type) {
 		this.maxCapacity = type.capacity;
 		storeItemStack = ItemStack.EMPTY;
+		storedAmount = 0;
 		inventory = new RebornInventory<>(2, "ItemInventory", 64, this);
 
 		this.type = type;
@@ -115,7 +128,7 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 		}
 
 		// Fill output slot with goodies when stored has items and output count is less than max stack size
-		if (storeItemStack.getCount() > 0 && inventory.getInvStack(OUTPUT_SLOT).getCount() < getStoredStack().getMaxCount()) {
+		if (storedAmount > 0 && inventory.getInvStack(OUTPUT_SLOT).getCount() < getStoredStack().getMaxCount()) {
 			populateOutput();
 
 			shouldUpdate = true;
@@ -132,10 +145,63 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 		if (shouldUpdate) {
 			inventory.setChanged();
 			markDirty();
-			syncWithAll();
+			syncChanges();
 
 			shouldUpdate = false;
 		}
+
+		if (countChanged && world.getTime() - lastCountSync >= TechRebornConfig.storageUnitSyncInterval) {
+			NetworkManager.sendToTracking(ClientboundPackets.createPacketStorageUnitCount(this), this);
+			lastCountSync = world.getTime();
+			countChanged = false;
+		}
+	}
+
+	private void syncChanges() {
+		ItemStack storedStack = getStoredStack();
+
+		if (!ItemUtils.isItemEqual(syncedItemStack, storedStack, true, true)) {
+			// Clients need the full tag to learn about the new item
+			syncWithAll();
+			syncedItemStack = storedStack.copy();
+			countChanged = false;
+		} else {
+			countChanged = true;
+		}
+	}
+
+	// Client side counterpart of ClientboundPackets.createPacketStorageUnitCount
+	public void applyCountSync(long storedCount, int outputCount) {
+		ItemStack storedType = getStoredStack().copy();
+		if (storedType.isEmpty()) {
+			// Item type changes are always sent as a full sync, nothing to apply the counts to
+			return;
+		}
+
+		if (storedCount > 0) {
+			storeItemStack = storedType.copy();
+			storeItemStack.setCount(1);
+			storedAmount = storedCount;
+		} else {
+			storeItemStack = ItemStack.EMPTY;
+			storedAmount = 0;
+		}
+
+		if (outputCount > 0) {
+			ItemStack output = storedType.copy();
+			output.setCount(outputCount);
+			inventory.setInvStack(OUTPUT_SLOT, output);
+		} else {
+			inventory.setInvStack(OUTPUT_SLOT, ItemStack.EMPTY);
+		}
+	}
+
+	public long getStoredAmount() {
+		return storedAmount;
+	}
+
+	public int getOutputCount() {
+		return inventory.getInvStack(OUTPUT_SLOT).getCount();
 	}
 
 	private void populateOutput() {
@@ -144,30 +210,22 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 
 		int outputSlotCount = inventory.getInvStack(OUTPUT_SLOT).getCount();
 
-		// Set to current outputSlot count
-		output.setCount(outputSlotCount);
-
 		// Calculate amount needed to fill stack in output slot
-		int amountToFill = getStoredStack().getMaxCount() - outputSlotCount;
-
-		if (storeItemStack.getCount() >= amountToFill) {
-			storeItemStack.decrement(amountToFill);
-
-			if (storeItemStack.isEmpty()) {
-				storeItemStack = ItemStack.EMPTY;
-			}
+		int amountToFill = (int) Math.min(getStoredStack().getMaxCount() - outputSlotCount, storedAmount);
 
-			output.increment(amountToFill);
-		} else {
-			output.increment(storeItemStack.getCount());
-			storeItemStack = ItemStack.EMPTY;
-		}
+		output.setCount(outputSlotCount + amountToFill);
+		removeStoredAmount(amountToFill);
 
 		inventory.setInvStack(OUTPUT_SLOT, output);
 	}
 
-	private void addStoredItemCount(int amount) {
-		storeItemStack.increment(amount);
+	private void removeStoredAmount(long amount) {
+		storedAmount -= amount;
+
+		if (storedAmount <= 0) {
+			storedAmount = 0;
+			storeItemStack = ItemStack.EMPTY;
+		}
 	}
 
 	public ItemStack getStoredStack() {
@@ -184,55 +242,104 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 		}
 	}
 
+	// Only used to move the contents of the old chests, which are limited to an int
 	public ItemStack getAll() {
 		ItemStack returnStack = ItemStack.EMPTY;
 
 		if (!isEmpty()) {
 			returnStack = getStoredStack().copy();
-			returnStack.setCount(getCurrentCapacity());
+			returnStack.setCount((int) Math.min(getCurrentCapacity(), Integer.MAX_VALUE));
 		}
 
 		return returnStack;
 	}
 
 	public void setStoredStack(ItemStack itemStack) {
-		storeItemStack = itemStack;
+		if (itemStack.isEmpty()) {
+			storeItemStack = ItemStack.EMPTY;
+			storedAmount = 0;
+		} else {
+			storeItemStack = itemStack.copy();
+			storeItemStack.setCount(1);
+			storedAmount = itemStack.getCount();
+		}
 	}
 
 	public ItemStack processInput(ItemStack inputStack) {
+		long inserted = insert(inputStack, inputStack.getCount(), false);
+
+		if (inserted >= inputStack.getCount()) {
+			return ItemStack.EMPTY;
+		}
 
-		boolean isSameStack = isSameType(inputStack);
+		inputStack.decrement((int) inserted);
+		return inputStack;
+	}
 
-		if (storeItemStack == ItemStack.EMPTY && (isSameStack || getCurrentCapacity() == 0)) {
-			// Check if storage is empty, NOT including the output slot
-			storeItemStack = inputStack.copy();
+	/**
+	 * Inserts items straight into storage without going through the input slot.
+	 *
+	 * @param stack    Item type to insert, the count of this stack is ignored
+	 * @param amount   Maximum amount of items to insert
+	 * @param simulate If true the storage unit is not modified
+	 * @return Amount of items that were (or would have been) inserted
+	 */
+	public long insert(ItemStack stack, long amount, boolean simulate) {
+		if (stack.isEmpty() || amount <= 0 || !canInsert(stack)) {
+			return 0;
+		}
 
-			if (inputStack.getCount() <= maxCapacity) {
-				inputStack = ItemStack.EMPTY;
-			} else {
-				// Stack is higher than capacity
-				storeItemStack.setCount(maxCapacity);
-				inputStack.decrement(maxCapacity);
+		long inserted = Math.min(amount, maxCapacity - getCurrentCapacity());
+		if (inserted <= 0) {
+			return 0;
+		}
+
+		if (!simulate) {
+			if (storeItemStack.isEmpty()) {
+				storeItemStack = stack.copy();
+				storeItemStack.setCount(1);
 			}
-		} else if (isSameStack) {
-			// Not empty but same type
+			storedAmount += inserted;
+			shouldUpdate = true;
+		}
 
-			// Amount of items that can be added before reaching capacity
-			int reminder = maxCapacity - getCurrentCapacity();
+		return inserted;
+	}
 
+	/**
+	 * Extracts items straight from storage, falling back to the output slot once storage is empty.
+	 *
+	 * @param stack    Item type to extract, the count of this stack is ignored
+	 * @param amount   Maximum amount of items to extract
+	 * @param simulate If true the storage unit is not modified
+	 * @return Amount of items that were (or would have been) extracted, 0 if the unit holds a different item
+	 */
+	public long extract(ItemStack stack, long amount, boolean simulate) {
+		if (stack.isEmpty() || amount <= 0 || !ItemUtils.isItemEqual(getStoredStack(), stack, true, true)) {
+			return 0;
+		}
 
-			if (inputStack.getCount() <= reminder) {
-				// Add full stack
-				addStoredItemCount(inputStack.getCount());
-				inputStack = ItemStack.EMPTY;
-			} else {
-				// Add only what is needed to reach max capacity
-				addStoredItemCount(reminder);
-				inputStack.decrement(reminder);
+		long fromStorage = Math.min(amount, storedAmount);
+		int fromOutput = (int) Math.min(amount - fromStorage, inventory.getInvStack(OUTPUT_SLOT).getCount());
+
+		// Creative units never run out
+		if (!simulate && type != TRContent.StorageUnit.CREATIVE) {
+			removeStoredAmount(fromStorage);
+			if (fromOutput > 0) {
+				inventory.getInvStack(OUTPUT_SLOT).decrement(fromOutput);
+				inventory.setChanged();
 			}
+			shouldUpdate = true;
 		}
 
-		return inputStack;
+		return fromStorage + fromOutput;
+	}
+
+	public boolean canInsert(ItemStack stack) {
+		if (isLocked()) {
+			return isSameType(stack);
+		}
+		return isEmpty() || isSameType(stack);
 	}
 
 	public boolean isSameType(ItemStack inputStack) {
@@ -248,25 +355,26 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 
 	// Creative function
 	private void fillToCapacity() {
-		storeItemStack = getStoredStack();
-		storeItemStack.setCount(maxCapacity);
+		storeItemStack = getStoredStack().copy();
+		storeItemStack.setCount(1);
+		storedAmount = maxCapacity;
 
 		inventory.setInvStack(OUTPUT_SLOT, ItemStack.EMPTY);
 	}
 
 	public boolean isFull() {
-		return getCurrentCapacity() == maxCapacity;
+		return getCurrentCapacity() >= maxCapacity;
 	}
 
 	public boolean isEmpty() {
 		return getCurrentCapacity() == 0;
 	}
 
-	public int getCurrentCapacity() {
-		return storeItemStack.getCount() + inventory.getInvStack(OUTPUT_SLOT).getCount();
+	public long getCurrentCapacity() {
+		return storedAmount + inventory.getInvStack(OUTPUT_SLOT).getCount();
 	}
 
-	public int getMaxCapacity() {
+	public long getMaxCapacity() {
 		return maxCapacity;
 	}
 
@@ -290,13 +398,16 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 		}
 
 		storeItemStack = ItemStack.EMPTY;
+		storedAmount = 0;
 
 		if (tagCompound.contains("storedStack")) {
 			storeItemStack = ItemStack.fromTag(tagCompound.getCompound("storedStack"));
 		}
 
 		if (!storeItemStack.isEmpty()) {
-			storeItemStack.setCount(Math.min(tagCompound.getInt("storedQuantity"), this.maxCapacity));
+			storeItemStack.setCount(1);
+			// Older versions stored the quantity as an int, getLong reads both
+			storedAmount = Math.min(tagCompound.getLong("storedQuantity"), this.maxCapacity);
 		}
 
 		if (tagCompound.contains("lockedItem")) {
@@ -313,14 +424,10 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 		tagCompound.putString("unitType", this.type.name());
 
 		if (!storeItemStack.isEmpty()) {
-			ItemStack temp = storeItemStack.copy();
-			if (storeItemStack.getCount() > storeItemStack.getMaxCount()) {
-				temp.setCount(storeItemStack.getMaxCount());
-			}
-			tagCompound.put("storedStack", temp.toTag(new CompoundTag()));
-			tagCompound.putInt("storedQuantity", Math.min(storeItemStack.getCount(), maxCapacity));
+			tagCompound.put("storedStack", storeItemStack.toTag(new CompoundTag()));
+			tagCompound.putLong("storedQuantity", Math.min(storedAmount, maxCapacity));
 		} else {
-			tagCompound.putInt("storedQuantity", 0);
+			tagCompound.putLong("storedQuantity", 0);
 		}
 
 		if (isLocked()) {
@@ -379,25 +486,14 @@ public class StorageUnitBaseBlockEntity extends MachineBaseBlockEntity
 			return;
 		}
 
-		if (storeItemStack != ItemStack.EMPTY) {
-			if (storeItemStack.getMaxCount() == 64) {
-				// Drop stacks (In one clump, reduce lag)
-				WorldUtils.dropItem(storeItemStack, world, pos);
-			} else {
-				int size = storeItemStack.getMaxCount();
-
-				for (int i = 0; i < storeItemStack.getCount() / size; i++) {
-					ItemStack toDrop = storeItemStack.copy();
-					toDrop.setCount(size);
-					WorldUtils.dropItem(toDrop, world, pos);
-				}
-
-				if (storeItemStack.getCount() % size != 0) {
-					ItemStack toDrop = storeItemStack.copy();
-					toDrop.setCount(storeItemStack.getCount() % size);
-					WorldUtils.dropItem(toDrop, world, pos);
-				}
+		if (!storeItemStack.isEmpty()) {
+			// Drop 64 size stacks in one clump to reduce lag
+			int size = storeItemStack.getMaxCount() == 64 ? Integer.MAX_VALUE : storeItemStack.getMaxCount();
 
+			for (long remaining = storedAmount; remaining > 0; remaining -= size) {
+				ItemStack toDrop = storeItemStack.copy();
+				toDrop.setCount((int) Math.min(remaining, size));
+				WorldUtils.dropItem(toDrop, world, pos);
 			}
 		}
 
@@ -51,6 +51,7 @@ import techreborn.init.ModSounds;
 import techreborn.init.TRContent;
 import techreborn.items.tool.TreeTapItem;
 import techreborn.items.tool.basic.ElectricTreetapItem;
+import techreborn.utils.LeafDecayHandler;
 
 import java.util.Random;
 
@@ -81,17 +82,7 @@ public class BlockRubberLog extends LogBlock {
 
 	@Override
 	public void onBreak(World worldIn, BlockPos pos, BlockState state, PlayerEntity player) {
-		int i = 4;
-		int j = i + 1;
-		if (worldIn instanceof ServerWorld && worldIn.isRegionLoaded(pos.add(-j, -j, -j), pos.add(j, j, j))) {
-			for (BlockPos blockpos : BlockPos.iterate(pos.add(-i, -i, -i), pos.add(i, i, i))) {
-				BlockState state1 = worldIn.getBlockState(blockpos);
-				if (state1.matches(BlockTags.LEAVES)) {
-					state1.scheduledTick((ServerWorld) worldIn, blockpos, worldIn.getRandom());
-					state1.randomTick((ServerWorld) worldIn, blockpos, worldIn.getRandom());
-				}
-			}
-		}
+		LeafDecayHandler.onLogBroken(worldIn, pos);
 		super.onBreak(worldIn, pos, state, player);
 	}
 
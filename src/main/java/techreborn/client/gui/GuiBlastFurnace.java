@@ -50,13 +50,13 @@ public class GuiBlastFurnace extends GuiBase<BuiltContainer> {
 	@Override
 	public void init() {
 		super.init();
-		this.hasMultiBlock = this.blockEntity.getCachedHeat() != 0;
+		this.hasMultiBlock = this.blockEntity.getHeat() != 0;
 	}
 
 	@Override
 	protected void drawBackground(final float f, final int mouseX, final int mouseY) {
 		super.drawBackground(f, mouseX, mouseY);
-		this.hasMultiBlock = this.blockEntity.getCachedHeat() != 0;
+		this.hasMultiBlock = this.blockEntity.getHeat() != 0;
 
 		RenderSystem.color4f(1.0F, 1.0F, 1.0F, 1.0F);
 		final GuiBase.Layer layer = Layer.BACKGROUND;
@@ -76,12 +76,12 @@ public class GuiBlastFurnace extends GuiBase<BuiltContainer> {
 	@Override
 	protected void drawForeground(final int mouseX, final int mouseY) {
 		super.drawForeground(mouseX, mouseY);
-		this.hasMultiBlock = blockEntity.getCachedHeat() != 0;
+		this.hasMultiBlock = blockEntity.getHeat() != 0;
 		final GuiBase.Layer layer = GuiBase.Layer.FOREGROUND;
 
 		builder.drawProgressBar(this, blockEntity.getProgressScaled(100), 100, 71, 40, mouseX, mouseY, GuiBuilder.ProgressDirection.RIGHT, layer);
 
-		builder.drawBigHeatBar(this, 31, 71, blockEntity.getCachedHeat(), 3230, layer);
+		builder.drawBigHeatBar(this, 31, 71, blockEntity.getHeat(), 3230, layer);
 		if (hasMultiBlock) {
 			addHologramButton(4, 4, 212, layer).clickHandler(this::onClick);
 		} else {
@@ -217,6 +217,15 @@ public class TechRebornConfig {
 	@Config(config = "items", category = "power", key = "industrialChainsawCost", comment = "Energy Cost for Industrial Chainsaw")
 	public static int industrialChainsawCost = 150;
 
+	@Config(config = "items", category = "industrial_chainsaw", key = "industrialChainsawMaxLogs", comment = "Maximum amount of logs the Industrial Chainsaw breaks in one go")
+	public static int industrialChainsawMaxLogs = 256;
+
+	@Config(config = "items", category = "industrial_chainsaw", key = "industrialChainsawMaxLeaves", comment = "Maximum amount of leaves the Industrial Chainsaw searches through and breaks in one go")
+	public static int industrialChainsawMaxLeaves = 512;
+
+	@Config(config = "items", category = "industrial_chainsaw", key = "industrialChainsawBlocksPerTick", comment = "Amount of blocks the Industrial Chainsaw breaks per tick while felling a tree")
+	public static int industrialChainsawBlocksPerTick = 32;
+
 	@Config(config = "items", category = "power", key = "basicJackhammerCharge", comment = "Energy Capacity for Basic Jackhammer")
 	public static int basicJackhammerCharge = 10_000;
 
@@ -369,6 +378,12 @@ public class TechRebornConfig {
 	@Config(config = "machines", category = "chunk_loader", key = "ChunkLoaderMaxRadius", comment = "Chunk Loader Max Radius")
 	public static int chunkLoaderMaxRadius = 5;
 
+	@Config(config = "machines", category = "chunk_loader", key = "ChunkLoaderMaxChunksPerPlayer", comment = "Maximum number of chunks one player can keep loaded with chunk loaders, across all worlds (0 for no limit)")
+	public static int chunkLoaderMaxChunksPerPlayer = 256;
+
+	@Config(config = "machines", category = "chunk_loader", key = "ChunkLoaderMaxChunksPerWorld", comment = "Maximum number of chunks kept loaded by chunk loaders in one world (0 for no limit)")
+	public static int chunkLoaderMaxChunksPerWorld = 1024;
+
 	@Config(config = "machines", category = "assembling_machine", key = "AssemblingMachineMaxInput", comment = "Assembling Machine Max Input (Value in EU)")
 	public static int assemblingMachineMaxInput = 128;
 
@@ -457,11 +472,14 @@ public class TechRebornConfig {
 	public static int industrialTankUnitCapacity = 10000;
 
 	@Config(config = "machines", category = "storage", key = "QuantumStorageUnitMaxStorage", comment = "Maximum amount of items a Quantum Storage Unit can store (Compat: == MAX_VALUE)")
-	public static int quantumStorageUnitMaxStorage = Integer.MAX_VALUE;
+	public static long quantumStorageUnitMaxStorage = Long.MAX_VALUE;
 
 	@Config(config = "machines", category = "storage", key = "QuantumTankUnitCapacity", comment = "How much liquid a Quantum Tank Unit can take (Value in buckets, 1000 Mb)(Compat: == MAX_VALUE)")
 	public static int quantumTankUnitCapacity = Integer.MAX_VALUE / 1000;
 
+	@Config(config = "machines", category = "storage", key = "StorageUnitSyncInterval", comment = "Minimum ticks between item count updates sent to clients by storage units")
+	public static int storageUnitSyncInterval = 1;
+
 	@Config(config = "machines", category = "charge_bench", key = "ChargeBenchMaxOutput", comment = "Charge Bench Max Output (Value in EU)")
 	public static int chargeOMatBMaxOutput = 512;
 
@@ -471,6 +489,9 @@ public class TechRebornConfig {
 	@Config(config = "machines", category = "charge_bench", key = "ChargeBenchMaxEnergy", comment = "Charge Bench Max Energy (Value in EU)")
 	public static int chargeOMatBMaxEnergy = 100_000_000;
 
+	@Config(config = "machines", category = "charge_bench", key = "ChargeBenchOutputCharged", comment = "Should the Charge Bench move fully charged items into adjacent inventories")
+	public static boolean chargeOMatOutputCharged = true;
+
 	@Config(config = "machines", category = "industrial_electrolyzer", key = "IndustrialElectrolyzerMaxInput", comment = "Industrial Electrolyzer Max Input (Value in EU)")
 	public static int industrialElectrolyzerMaxInput = 128;
 
@@ -556,6 +577,12 @@ public class TechRebornConfig {
 	@Config(config = "misc", category = "general", key = "manualRefund", comment = "Allow refunding items used to craft the manual")
 	public static boolean allowManualRefund = true;
 
+	@Config(config = "misc", category = "general", key = "MachineHibernation", comment = "Idle machines in chunks kept loaded by a chunk loader, with no player nearby, only tick once a second")
+	public static boolean machineHibernation = true;
+
+	@Config(config = "misc", category = "general", key = "GuiActionsPerTick", comment = "Maximum number of machine GUI actions accepted from a player each tick, further actions in that tick are dropped")
+	public static int guiActionsPerTick = 20;
+
 	@Config(config = "misc", category = "nuke", key = "fusetime", comment = "Nuke fuse time (ticks)")
 	public static int nukeFuseTime = 400;
 
@@ -27,9 +27,6 @@ package techreborn.events;
 import com.google.common.collect.Maps;
 import net.fabricmc.fabric.api.event.client.ItemTooltipCallback;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockEntityProvider;
-import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.item.Item;
@@ -37,21 +34,30 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.text.LiteralText;
 import net.minecraft.text.Text;
+import net.minecraft.text.TranslatableText;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.registry.Registry;
 import reborncore.api.IListInfoProvider;
+import org.apache.commons.lang3.text.WordUtils;
 import reborncore.common.BaseBlockEntityProvider;
+import reborncore.common.fluid.FluidUtil;
 import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.util.StringUtils;
-import team.reborn.energy.Energy;
+import reborncore.common.util.Tank;
 import team.reborn.energy.EnergyHolder;
 import team.reborn.energy.EnergySide;
-import techreborn.TechReborn;
+import techreborn.blocks.cable.CableBlock;
+import techreborn.blocks.generator.BlockSolarPanel;
+import techreborn.blocks.storage.fluid.TankUnitBlock;
+import techreborn.blocks.storage.item.StorageUnitBlock;
 import techreborn.init.TRContent;
+import techreborn.init.TRContent.SolarPanels;
 import techreborn.items.UpgradeItem;
+import techreborn.utils.PoweredItemUtils;
 import techreborn.utils.ToolTipAssistUtils;
 import techreborn.utils.WIP;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -99,9 +105,11 @@ public class StackToolTipHandler implements ItemTooltipCallback {
 		if (item instanceof IListInfoProvider) {
 			((IListInfoProvider) item).addInfo(components, false, false);
 		} else if (stack.getItem() instanceof EnergyHolder) {
-			LiteralText line1 = new LiteralText(PowerSystem.getLocaliszedPowerFormattedNoSuffix(Energy.of(stack).getEnergy()));
+			double energy = PoweredItemUtils.getEnergy(stack);
+			double maxEnergy = PoweredItemUtils.getMaxEnergy(stack);
+			LiteralText line1 = new LiteralText(PowerSystem.getLocaliszedPowerFormattedNoSuffix(energy));
 			line1.append("/");
-			line1.append(PowerSystem.getLocaliszedPowerFormattedNoSuffix(Energy.of(stack).getMaxStored()));
+			line1.append(PowerSystem.getLocaliszedPowerFormattedNoSuffix(maxEnergy));
 			line1.append(" ");
 			line1.append(PowerSystem.getDisplayPower().abbreviation);
 			line1.formatted(Formatting.GOLD);
@@ -109,33 +117,76 @@ public class StackToolTipHandler implements ItemTooltipCallback {
 			components.add(1, line1);
 
 			if (Screen.hasShiftDown()) {
-				int percentage = percentage(Energy.of(stack).getMaxStored(), Energy.of(stack).getEnergy());
+				int percentage = percentage(maxEnergy, energy);
 				Formatting color = StringUtils.getPercentageColour(percentage);
 				components.add(2, new LiteralText(color + "" + percentage + "%" + Formatting.GRAY + " Charged"));
 				// TODO: show both input and output rates
 				components.add(3, new LiteralText(Formatting.GRAY + "I/O Rate: " + Formatting.GOLD + PowerSystem.getLocaliszedPowerFormatted(((EnergyHolder) item).getMaxInput(EnergySide.UNKNOWN))));
 			}
-		} else {
-			try {
-				if ((block instanceof BlockEntityProvider) && Registry.BLOCK.getId(block).getNamespace().contains("techreborn")) {
-					BlockEntity blockEntity = ((BlockEntityProvider) block).createBlockEntity(MinecraftClient.getInstance().world);
-					boolean hasData = false;
-					if (stack.hasTag() && stack.getTag().contains("blockEntity_data")) {
-						CompoundTag blockEntityData = stack.getTag().getCompound("blockEntity_data");
-						blockEntity.fromTag(blockEntityData);
-						hasData = true;
-						components.add(new LiteralText("Block data contained").formatted(Formatting.DARK_GREEN));
-					}
-					if (blockEntity instanceof IListInfoProvider) {
-						((IListInfoProvider) blockEntity).addInfo(components, false, hasData);
-					}
+		} else if (Registry.BLOCK.getId(block).getNamespace().contains("techreborn")) {
+			// Built from the block type and the item data alone, no block entity is created for a tooltip
+			CompoundTag blockEntityData = stack.hasTag() && stack.getTag().contains("blockEntity_data") ? stack.getTag().getCompound("blockEntity_data") : null;
+			if (blockEntityData != null) {
+				components.add(new LiteralText("Block data contained").formatted(Formatting.DARK_GREEN));
+				if (blockEntityData.contains("PowerAcceptor")) {
+					components.add(new LiteralText(Formatting.GRAY + StringUtils.t("reborncore.tooltip.energy") + ": "
+							+ Formatting.GOLD + PowerSystem.getLocaliszedPowerFormatted(blockEntityData.getCompound("PowerAcceptor").getDouble("energy"))));
 				}
-			} catch (NullPointerException e) {
-				TechReborn.LOGGER.debug("Failed to load info for " + stack.getName());
 			}
+			addBlockInfo(block, blockEntityData, components);
 		}
 	}
-	
+
+	private void addBlockInfo(Block block, @Nullable CompoundTag blockEntityData, List<Text> components) {
+		if (block instanceof CableBlock) {
+			TRContent.Cables cable = ((CableBlock) block).type;
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.transferRate") + ": "
+					+ Formatting.GOLD + PowerSystem.getLocaliszedPowerFormatted(cable.transferRate) + "/t"));
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.tier") + ": "
+					+ Formatting.GOLD + StringUtils.toFirstCapitalAllLowercase(cable.tier.toString())));
+			if (!cable.canKill) {
+				components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.cable.can_cover")));
+			}
+		} else if (block instanceof BlockSolarPanel) {
+			SolarPanels panel = ((BlockSolarPanel) block).panelType;
+			if (panel == SolarPanels.CREATIVE) {
+				return;
+			}
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("reborncore.tooltip.energy.maxEnergy") + ": "
+					+ Formatting.GOLD + PowerSystem.getLocaliszedPowerFormatted(panel.internalCapacity)));
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.generationRate.day") + ": "
+					+ Formatting.GOLD + PowerSystem.getLocaliszedPowerFormatted(panel.generationRateD)));
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.generationRate.night") + ": "
+					+ Formatting.GOLD + PowerSystem.getLocaliszedPowerFormatted(panel.generationRateN)));
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("reborncore.tooltip.energy.tier") + ": "
+					+ Formatting.GOLD + StringUtils.toFirstCapitalAllLowercase(panel.powerTier.toString())));
+		} else if (block instanceof StorageUnitBlock) {
+			TRContent.StorageUnit unit = ((StorageUnitBlock) block).unitType;
+			if (blockEntityData != null) {
+				ItemStack storedStack = ItemStack.fromTag(blockEntityData.getCompound("storedStack"));
+				if (!storedStack.isEmpty()) {
+					components.add(new LiteralText(blockEntityData.getLong("storedQuantity") + StringUtils.t("techreborn.tooltip.unit.divider") + storedStack.getName().asString()));
+				} else {
+					components.add(new TranslatableText("techreborn.tooltip.unit.empty"));
+				}
+			}
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.unit.capacity") + Formatting.GOLD + unit.capacity +
+					" items (" + unit.capacity / 64 + ")"));
+		} else if (block instanceof TankUnitBlock) {
+			TRContent.TankUnit unit = ((TankUnitBlock) block).unitType;
+			if (blockEntityData != null) {
+				Tank tank = new Tank("TankStorage", unit.capacity, null);
+				tank.read(blockEntityData);
+				if (!tank.getFluidInstance().isEmpty()) {
+					components.add(new LiteralText(tank.getFluidAmount() + StringUtils.t("techreborn.tooltip.unit.divider") + WordUtils.capitalize(FluidUtil.getFluidName(tank.getFluid()))));
+				} else {
+					components.add(new TranslatableText("techreborn.tooltip.unit.empty"));
+				}
+			}
+			components.add(new LiteralText(Formatting.GRAY + StringUtils.t("techreborn.tooltip.unit.capacity") + Formatting.GOLD + unit.capacity + " (" + unit.capacity.getRawValue() / 1000 + ")"));
+		}
+	}
+
 	private boolean isTRItem(Item item) {
 		return Registry.ITEM.getId(item).getNamespace().equals("techreborn");
 	}
@@ -24,29 +24,73 @@
 
 package techreborn.events;
 
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.ResourceReloadListenerKeys;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.recipe.Recipe;
 import net.minecraft.recipe.RecipeType;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
 import techreborn.TechReborn;
 import techreborn.init.TRContent;
 import techreborn.utils.RecipeUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Predicate;
 
 public class TRRecipeHandler {
 
+	// TechReborn crafting recipes, collected on first use after each datapack reload
+	private static List<Recipe<?>> trRecipes = null;
+	// Players that already had the current recipes unlocked
+	private static final Set<UUID> unlockedPlayers = new HashSet<>();
 
-	public static void unlockTRRecipes(ServerPlayerEntity playerMP) {
-		List<Recipe<?>> recipeList = new ArrayList<>();
-		for (Recipe<?> recipe : RecipeUtils.getRecipes(playerMP.world, RecipeType.CRAFTING)) {
-			if (isRecipeValid(recipe)) {
-				recipeList.add(recipe);
+	public static void setup() {
+		ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+			@Override
+			public Identifier getFabricId() {
+				return new Identifier(TechReborn.MOD_ID, "recipe_unlocks");
+			}
+
+			@Override
+			public Collection<Identifier> getFabricDependencies() {
+				return Collections.singletonList(ResourceReloadListenerKeys.RECIPES);
+			}
+
+			@Override
+			public void apply(ResourceManager manager) {
+				invalidate();
+			}
+		});
+	}
+
+	private static synchronized void invalidate() {
+		trRecipes = null;
+		unlockedPlayers.clear();
+	}
+
+	public static synchronized void unlockTRRecipes(ServerPlayerEntity playerMP) {
+		if (!unlockedPlayers.add(playerMP.getUuid())) {
+			return;
+		}
+		if (trRecipes == null) {
+			trRecipes = new ArrayList<>();
+			for (Recipe<?> recipe : RecipeUtils.getRecipes(playerMP.world, RecipeType.CRAFTING)) {
+				if (isRecipeValid(recipe)) {
+					trRecipes.add(recipe);
+				}
 			}
 		}
-		playerMP.unlockRecipes(recipeList);
+		playerMP.unlockRecipes(trRecipes);
 	}
 
 	private static boolean isRecipeValid(Recipe<?> recipe) {
@@ -0,0 +1,70 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.init;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.fabricmc.fabric.api.registry.CommandRegistry;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.LiteralText;
+import techreborn.utils.ChunkLoadingBudget;
+import techreborn.world.OreDistributionReport;
+
+import java.util.List;
+
+public class TRCommands {
+
+	public static void init() {
+		CommandRegistry.INSTANCE.register(false, TRCommands::register);
+	}
+
+	private static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+		dispatcher.register(CommandManager.literal("techreborn")
+				.requires(source -> source.hasPermissionLevel(2))
+				.then(CommandManager.literal("oregen")
+						.executes(context -> reportOreGen(context.getSource(), 64))
+						.then(CommandManager.argument("chunks", IntegerArgumentType.integer(1, 1024))
+								.executes(context -> reportOreGen(context.getSource(), IntegerArgumentType.getInteger(context, "chunks")))))
+				.then(CommandManager.literal("chunkloading")
+						.executes(context -> reportChunkLoading(context.getSource()))));
+	}
+
+	private static int reportChunkLoading(ServerCommandSource source) {
+		List<String> lines = ChunkLoadingBudget.report(source.getMinecraftServer());
+		for (String line : lines) {
+			source.sendFeedback(new LiteralText(line), false);
+		}
+		return lines.size();
+	}
+
+	private static int reportOreGen(ServerCommandSource source, int chunks) {
+		List<String> lines = OreDistributionReport.run(chunks, source.getWorld().getSeed());
+		for (String line : lines) {
+			source.sendFeedback(new LiteralText(line), false);
+		}
+		return lines.size();
+	}
+}
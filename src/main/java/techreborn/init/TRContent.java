@@ -309,16 +309,16 @@ public class TRContent {
 		ADVANCED(TechRebornConfig.advancedStorageUnitMaxStorage),
 		INDUSTRIAL(TechRebornConfig.industrialStorageUnitMaxStorage),
 		QUANTUM(TechRebornConfig.quantumStorageUnitMaxStorage),
-		CREATIVE(Integer.MAX_VALUE);
+		CREATIVE(Long.MAX_VALUE);
 
 		public final String name;
 		public final Block block;
 
 		// How many blocks it can hold
-		public int capacity;
+		public long capacity;
 
 
-		StorageUnit(int capacity) {
+		StorageUnit(long capacity) {
 			name = this.toString().toLowerCase(Locale.ROOT);
 			block = new StorageUnitBlock(this);
 			this.capacity = capacity;
@@ -406,35 +406,31 @@ public class TRContent {
 	}
 
 	public enum Ores implements ItemConvertible {
-		BAUXITE(TechRebornConfig.bauxiteVeinSize, TechRebornConfig.bauxiteVeinCount, 10, 60),
-		CINNABAR(TechRebornConfig.cinnabarVeinSize, TechRebornConfig.cinnabarVeinCount, 10, 126),
-		COPPER(TechRebornConfig.copperVeinSize, TechRebornConfig.copperVeinCount, 20, 60),
-		GALENA(TechRebornConfig.galenaVeinSize, TechRebornConfig.galenaVeinCount, 10, 60),
-		IRIDIUM(TechRebornConfig.iridiumVeinSize, TechRebornConfig.iridiumVeinCount, 5, 60),
-		LEAD(TechRebornConfig.leadVeinSize, TechRebornConfig.leadVeinCount, 20, 60),
-		PERIDOT(TechRebornConfig.peridotVeinSize, TechRebornConfig.peridotVeinCount, 10, 250),
-		PYRITE(TechRebornConfig.pyriteVeinSize, TechRebornConfig.pyriteVeinCount, 10, 126),
-		RUBY(TechRebornConfig.rubyVeinSize, TechRebornConfig.rubyVeinCount, 10, 60),
-		SAPPHIRE(TechRebornConfig.sapphireVeinSize, TechRebornConfig.sapphireVeinCount, 10, 60),
-		SHELDONITE(TechRebornConfig.sheldoniteVeinSize, TechRebornConfig.sheldoniteVeinCount, 10, 250),
-		SILVER(TechRebornConfig.silverVeinSize, TechRebornConfig.silverVeinCount, 20, 60),
-		SODALITE(TechRebornConfig.sodaliteVeinSize, TechRebornConfig.sodaliteVeinCount, 10, 250),
-		SPHALERITE(TechRebornConfig.sphaleriteVeinSize, TechRebornConfig.sphaleriteVeinCount, 10, 126),
-		TIN(TechRebornConfig.tinVeinSize, TechRebornConfig.tinVeinCount, 20, 60),
-		TUNGSTEN(TechRebornConfig.tungstenVeinSize, TechRebornConfig.tungstenVeinCount, 10, 250);
+		BAUXITE(10, 60),
+		CINNABAR(10, 126),
+		COPPER(20, 60),
+		GALENA(10, 60),
+		IRIDIUM(5, 60),
+		LEAD(20, 60),
+		PERIDOT(10, 250),
+		PYRITE(10, 126),
+		RUBY(10, 60),
+		SAPPHIRE(10, 60),
+		SHELDONITE(10, 250),
+		SILVER(20, 60),
+		SODALITE(10, 250),
+		SPHALERITE(10, 126),
+		TIN(20, 60),
+		TUNGSTEN(10, 250);
 
 		public final String name;
 		public final Block block;
-		public final int veinSize;
-		public final int veinsPerChunk;
 		public final int minY;
 		public final int maxY;
 
-		Ores(int veinSize, int veinsPerChunk, int minY, int maxY) {
+		Ores(int minY, int maxY) {
 			name = this.toString().toLowerCase(Locale.ROOT);
 			block = new OreBlock(FabricBlockSettings.of(Material.STONE).strength(2f, 2f));
-			this.veinSize = veinSize;
-			this.veinsPerChunk = veinsPerChunk;
 			this.minY = minY;
 			this.maxY = maxY;
 			InitUtils.setup(block, name + "_ore");
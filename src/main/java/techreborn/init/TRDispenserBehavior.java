@@ -44,7 +44,6 @@ import techreborn.config.TechRebornConfig;
 import techreborn.items.DynamicCellItem;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Created by drcrazy on 10-Jan-20 for TechReborn-1.15.
@@ -56,7 +55,7 @@ public class TRDispenserBehavior {
 			DispenserBlock.registerBehavior(TRContent.SCRAP_BOX, new ItemDispenserBehavior() {
 				public ItemStack dispenseSilently(BlockPointer pointer, ItemStack stack){
 					List<RebornRecipe> scrapboxRecipeList = ModRecipes.SCRAPBOX.getRecipes(pointer.getWorld());
-					int random = new Random().nextInt(scrapboxRecipeList.size());
+					int random = pointer.getWorld().random.nextInt(scrapboxRecipeList.size());
 					ItemStack out = scrapboxRecipeList.get(random).getOutputs().get(0);
 					stack.split(1);
 
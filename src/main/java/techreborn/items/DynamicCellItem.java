@@ -65,12 +65,20 @@ import techreborn.init.TRContent;
 import techreborn.utils.FluidUtils;
 
 import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by modmuss50 on 17/05/2016.
  */
 public class DynamicCellItem extends Item implements ItemFluidInfo {
 
+	// Cells are read on a lot of hot paths, cache the parsed fluid ids rather than building a new
+	// Identifier and doing a registry lookup on every call. Only registered fluids are cached so the
+	// maps stay bounded by the size of the fluid registry.
+	private static final Map<String, Fluid> FLUID_BY_ID = new ConcurrentHashMap<>();
+	private static final Map<Fluid, String> ID_BY_FLUID = new ConcurrentHashMap<>();
+
 	public DynamicCellItem() {
 		super( new Item.Settings().group(TechReborn.ITEMGROUP).maxCount(16));
 	}
@@ -84,7 +92,7 @@ public class DynamicCellItem extends Item implements ItemFluidInfo {
 	public static ItemStack getCellWithFluid(Fluid fluid, int stackSize) {
 		Validate.notNull(fluid);
 		ItemStack stack = new ItemStack(TRContent.CELL);
-		ItemNBTHelper.getNBT(stack).putString("fluid", Registry.FLUID.getId(fluid).toString());
+		ItemNBTHelper.getNBT(stack).putString("fluid", ID_BY_FLUID.computeIfAbsent(fluid, f -> Registry.FLUID.getId(f).toString()));
 		stack.setCount(stackSize);
 		return stack;
 	}
@@ -234,8 +242,19 @@ public class DynamicCellItem extends Item implements ItemFluidInfo {
 	public Fluid getFluid(ItemStack itemStack) {
 		CompoundTag tag = itemStack.getTag();
 		if(tag != null && tag.contains("fluid")){
-			return Registry.FLUID.get(new Identifier(tag.getString("fluid")));
+			return getFluid(tag.getString("fluid"));
 		}
 		return Fluids.EMPTY;
 	}
+
+	public static Fluid getFluid(String fluidId) {
+		Fluid fluid = FLUID_BY_ID.get(fluidId);
+		if (fluid == null) {
+			fluid = Registry.FLUID.get(new Identifier(fluidId));
+			if (fluid != Fluids.EMPTY) {
+				FLUID_BY_ID.put(fluidId, fluid);
+			}
+		}
+		return fluid;
+	}
 }
@@ -29,6 +29,7 @@ import net.fabricmc.api.Environment;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.ArmorItem;
 import net.minecraft.item.ArmorMaterial;
 import net.minecraft.item.ItemGroup;
@@ -40,16 +41,25 @@ import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.util.ItemDurabilityExtensions;
 import reborncore.common.util.ItemUtils;
 import team.reborn.energy.Energy;
+import team.reborn.energy.EnergyHandler;
 import team.reborn.energy.EnergyHolder;
 import team.reborn.energy.EnergyTier;
 import techreborn.TechReborn;
 import techreborn.utils.InitUtils;
 
+import java.util.BitSet;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class BatpackItem extends ArmorItem implements EnergyHolder, ItemDurabilityExtensions {
 
 	public final int maxCharge;
 	public final EnergyTier tier;
 
+	// Slots are re-checked at this interval so items drained in place start charging again
+	private static final int FULL_RECHECK_INTERVAL = 20;
+	private static final Map<PlayerEntity, ChargeTracker> CHARGE_TRACKERS = new WeakHashMap<>();
+
 	public BatpackItem(int maxCharge, ArmorMaterial material, EnergyTier tier) {
 		super(material, EquipmentSlot.CHEST, new Settings().group(TechReborn.ITEMGROUP).maxCount(1).maxDamage(-1));
 		this.maxCharge = maxCharge;
@@ -68,11 +78,23 @@ public class BatpackItem extends ArmorItem implements EnergyHolder, ItemDurabili
 			return;
 		}
 
-		for (int i = 0; i < player.inventory.getInvSize(); i++) {
-			if (Energy.valid(player.inventory.getInvStack(i))) {
-				Energy.of(itemStack)
-						.into(Energy.of(player.inventory.getInvStack(i)))
-						.move(maxOutput);
+		EnergyHandler source = Energy.of(itemStack);
+		if (source.getEnergy() <= 0) {
+			return;
+		}
+
+		ChargeTracker tracker = CHARGE_TRACKERS.computeIfAbsent(player, p -> new ChargeTracker());
+		tracker.update(player.inventory, itemStack, world.getTime());
+
+		BitSet chargeable = tracker.chargeable;
+		for (int i = chargeable.nextSetBit(0); i >= 0; i = chargeable.nextSetBit(i + 1)) {
+			EnergyHandler target = Energy.of(player.inventory.getInvStack(i));
+			source.into(target).move(maxOutput);
+			if (target.getEnergy() >= target.getMaxStored()) {
+				chargeable.clear(i);
+			}
+			if (source.getEnergy() <= 0) {
+				break;
 			}
 		}
 	}
@@ -130,4 +152,46 @@ public class BatpackItem extends ArmorItem implements EnergyHolder, ItemDurabili
 	public double getDurability(ItemStack stack) {
 		return 1 - ItemUtils.getPowerForDurabilityBar(stack);
 	}
+
+	/**
+	 * Remembers which slots of a player inventory hold energy items that can still take charge.
+	 * Slots are only re-evaluated when the stack in them is swapped out, or every
+	 * {@link #FULL_RECHECK_INTERVAL} ticks for items that were full and may have been used since.
+	 */
+	private static class ChargeTracker {
+		private ItemStack[] stacks = new ItemStack[0];
+		private final BitSet energyItems = new BitSet();
+		private final BitSet chargeable = new BitSet();
+		private long nextFullRecheck;
+
+		private void update(PlayerInventory inventory, ItemStack batpack, long time) {
+			int size = inventory.getInvSize();
+			if (stacks.length != size) {
+				stacks = new ItemStack[size];
+				energyItems.clear();
+				chargeable.clear();
+			}
+
+			boolean recheck = time >= nextFullRecheck;
+			if (recheck) {
+				nextFullRecheck = time + FULL_RECHECK_INTERVAL;
+			}
+
+			for (int i = 0; i < size; i++) {
+				ItemStack stack = inventory.getInvStack(i);
+				if (stack != stacks[i]) {
+					stacks[i] = stack;
+					energyItems.set(i, stack != batpack && !stack.isEmpty() && Energy.valid(stack));
+				} else if (!recheck || chargeable.get(i)) {
+					continue;
+				}
+				chargeable.set(i, energyItems.get(i) && canReceive(stack));
+			}
+		}
+
+		private static boolean canReceive(ItemStack stack) {
+			EnergyHandler handler = Energy.of(stack);
+			return handler.getEnergy() < handler.getMaxStored();
+		}
+	}
 }
@@ -36,7 +36,6 @@ import reborncore.api.items.ArmorRemoveHandler;
 import reborncore.api.items.ArmorTickable;
 import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.util.ItemUtils;
-import team.reborn.energy.Energy;
 import team.reborn.energy.EnergyHolder;
 import team.reborn.energy.EnergySide;
 import team.reborn.energy.EnergyTier;
@@ -44,6 +43,7 @@ import techreborn.TechReborn;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRArmorMaterials;
 import techreborn.utils.InitUtils;
+import techreborn.utils.PoweredItemUtils;
 
 public class CloakingDeviceItem extends TRArmourItem implements EnergyHolder, ArmorTickable, ArmorRemoveHandler {
 
@@ -111,7 +111,7 @@ public class CloakingDeviceItem extends TRArmourItem implements EnergyHolder, Ar
 	// ArmorTickable
 	@Override
 	public void tickArmor(ItemStack stack, PlayerEntity playerEntity) {
-		if (Energy.of(stack).use(cost)) {
+		if (PoweredItemUtils.use(stack, cost)) {
 			playerEntity.setInvisible(true);
 		} else {
 			if (playerEntity.isInvisible()) {
@@ -45,12 +45,12 @@ import reborncore.api.items.ArmorTickable;
 import reborncore.api.items.ItemStackModifiers;
 import reborncore.common.powerSystem.PowerSystem;
 import reborncore.common.util.ItemUtils;
-import team.reborn.energy.Energy;
 import team.reborn.energy.EnergyHolder;
 import team.reborn.energy.EnergyTier;
 import techreborn.TechReborn;
 import techreborn.config.TechRebornConfig;
 import techreborn.utils.InitUtils;
+import techreborn.utils.PoweredItemUtils;
 
 public class QuantumSuitItem extends TRArmourItem implements ItemStackModifiers, ArmorTickable, ArmorRemoveHandler, ArmorFovHandler, EnergyHolder {
 
@@ -69,12 +69,12 @@ public class QuantumSuitItem extends TRArmourItem implements ItemStackModifiers,
 		attributes.removeAll(EntityAttributes.MOVEMENT_SPEED.getId());
 
 		if (this.slot == EquipmentSlot.LEGS && equipmentSlot == EquipmentSlot.LEGS) {
-			if (Energy.of(stack).getEnergy() > sprintingCost) {
+			if (PoweredItemUtils.getEnergy(stack) > sprintingCost) {
 				attributes.put(EntityAttributes.MOVEMENT_SPEED.getId(), new EntityAttributeModifier(MODIFIERS[equipmentSlot.getEntitySlotId()], "Movement Speed", 0.15, EntityAttributeModifier.Operation.ADDITION));
 			}
 		}
 
-		if (equipmentSlot == this.slot && Energy.of(stack).getEnergy() > 0) {
+		if (equipmentSlot == this.slot && PoweredItemUtils.getEnergy(stack) > 0) {
 			attributes.put(EntityAttributes.ARMOR.getId(), new EntityAttributeModifier(MODIFIERS[slot.getEntitySlotId()], "Armor modifier", 20, EntityAttributeModifier.Operation.ADDITION));
 			attributes.put(EntityAttributes.KNOCKBACK_RESISTANCE.getId(), new EntityAttributeModifier(MODIFIERS[slot.getEntitySlotId()], "Knockback modifier", 2, EntityAttributeModifier.Operation.ADDITION));
 		}
@@ -85,34 +85,34 @@ public class QuantumSuitItem extends TRArmourItem implements ItemStackModifiers,
 		switch (this.slot) {
 			case HEAD:
 				if (playerEntity.isSubmergedInWater()) {
-					if (Energy.of(stack).use(breathingCost)) {
+					if (PoweredItemUtils.use(stack, breathingCost)) {
 						playerEntity.addStatusEffect(new StatusEffectInstance(StatusEffects.WATER_BREATHING, 5, 1));
 					}
 				}
 				break;
 			case CHEST:
-				if (Energy.of(stack).getEnergy() > flyCost && !TechReborn.elytraPredicate.test(playerEntity)) {
+				if (PoweredItemUtils.getEnergy(stack) > flyCost && !TechReborn.elytraPredicate.test(playerEntity)) {
 					playerEntity.abilities.allowFlying = true;
 					if (playerEntity.abilities.flying) {
-						Energy.of(stack).use(flyCost);
+						PoweredItemUtils.use(stack, flyCost);
 					}
 					playerEntity.onGround = true;
 				} else {
 					playerEntity.abilities.allowFlying = false;
 					playerEntity.abilities.flying = false;
 				}
-				if (playerEntity.isOnFire() && Energy.of(stack).getEnergy() > fireExtinguishCost) {
+				if (playerEntity.isOnFire() && PoweredItemUtils.getEnergy(stack) > fireExtinguishCost) {
 					playerEntity.extinguish();
 				}
 				break;
 			case LEGS:
 				if (playerEntity.isSprinting()) {
-					Energy.of(stack).use(sprintingCost);
+					PoweredItemUtils.use(stack, sprintingCost);
 				}
 				break;
 			case FEET:
 				if (playerEntity.isSwimming()) {
-					if (Energy.of(stack).use(swimCost)) {
+					if (PoweredItemUtils.use(stack, swimCost)) {
 						playerEntity.addStatusEffect(new StatusEffectInstance(StatusEffects.DOLPHINS_GRACE, 5, 1));
 					}
 				}
@@ -139,7 +139,7 @@ public class QuantumSuitItem extends TRArmourItem implements ItemStackModifiers,
 
 	@Override
 	public float changeFov(float old, ItemStack stack, PlayerEntity playerEntity) {
-		if (this.slot == EquipmentSlot.LEGS && Energy.of(stack).getEnergy() > sprintingCost) {
+		if (this.slot == EquipmentSlot.LEGS && PoweredItemUtils.getEnergy(stack) > sprintingCost) {
 			old -= 0.6; //TODO possibly make it better
 		}
 		return old;
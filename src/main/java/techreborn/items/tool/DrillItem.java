@@ -25,8 +25,6 @@
 package techreborn.items.tool;
 
 import net.minecraft.block.BlockState;
-import net.minecraft.enchantment.EnchantmentHelper;
-import net.minecraft.enchantment.Enchantments;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.item.*;
 import net.minecraft.util.DefaultedList;
@@ -41,8 +39,8 @@ import team.reborn.energy.EnergySide;
 import team.reborn.energy.EnergyTier;
 import techreborn.TechReborn;
 import techreborn.utils.InitUtils;
-
-import java.util.Random;
+import techreborn.utils.RandomUtils;
+import techreborn.utils.ToolsUtil;
 
 public class DrillItem extends PickaxeItem implements EnergyHolder, ItemDurabilityExtensions {
 
@@ -84,8 +82,7 @@ public class DrillItem extends PickaxeItem implements EnergyHolder, ItemDurabili
 
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		Random rand = new Random();
-		if (rand.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, stack) + 1) == 0) {
+		if (ToolsUtil.shouldUseEnergy(stack, RandomUtils.get(worldIn))) {
 			Energy.of(stack).use(cost);
 		}
 		return true;
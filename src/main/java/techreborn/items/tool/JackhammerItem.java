@@ -26,8 +26,6 @@ package techreborn.items.tool;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Material;
-import net.minecraft.enchantment.EnchantmentHelper;
-import net.minecraft.enchantment.Enchantments;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.item.*;
 import net.minecraft.util.DefaultedList;
@@ -42,8 +40,8 @@ import team.reborn.energy.EnergySide;
 import team.reborn.energy.EnergyTier;
 import techreborn.TechReborn;
 import techreborn.utils.InitUtils;
-
-import java.util.Random;
+import techreborn.utils.RandomUtils;
+import techreborn.utils.ToolsUtil;
 
 public class JackhammerItem extends PickaxeItem implements EnergyHolder, ItemDurabilityExtensions {
 
@@ -70,8 +68,7 @@ public class JackhammerItem extends PickaxeItem implements EnergyHolder, ItemDur
 	// MiningToolItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		Random rand = new Random();
-		if (rand.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, stack) + 1) == 0) {
+		if (ToolsUtil.shouldUseEnergy(stack, RandomUtils.get(worldIn))) {
 			Energy.of(stack).use(cost);
 		}
 		return true;
@@ -50,6 +50,7 @@ import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 
 public class AdvancedJackhammerItem extends JackhammerItem {
@@ -84,11 +85,13 @@ public class AdvancedJackhammerItem extends JackhammerItem {
 		if (!ItemUtils.isActive(stack)) {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
-		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
+		List<BlockPos> targetBlocks = new ArrayList<>();
+		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, stateIn, entityLiving, 1)) {
 			if (shouldBreak(worldIn, pos, additionalPos)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				targetBlocks.add(additionalPos);
 			}
 		}
+		ToolsUtil.breakBlocks(stack, worldIn, targetBlocks, entityLiving, cost);
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
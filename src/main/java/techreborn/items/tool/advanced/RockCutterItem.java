@@ -27,7 +27,6 @@ package techreborn.items.tool.advanced;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.block.BlockState;
-import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.enchantment.Enchantments;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -45,8 +44,9 @@ import team.reborn.energy.EnergyTier;
 import techreborn.TechReborn;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
-
-import java.util.Random;
+import techreborn.utils.PoweredItemUtils;
+import techreborn.utils.RandomUtils;
+import techreborn.utils.ToolsUtil;
 
 public class RockCutterItem extends PickaxeItem implements EnergyHolder, ItemDurabilityExtensions {
 
@@ -66,7 +66,7 @@ public class RockCutterItem extends PickaxeItem implements EnergyHolder, ItemDur
 
 	@Override
 	public float getMiningSpeed(ItemStack stack, BlockState state) {
-		if (Energy.of(stack).getEnergy() < cost) {
+		if (!PoweredItemUtils.hasEnergy(stack, cost)) {
 			return 2F;
 		} else {
 			return Items.DIAMOND_PICKAXE.getMiningSpeed(stack, state);
@@ -76,8 +76,7 @@ public class RockCutterItem extends PickaxeItem implements EnergyHolder, ItemDur
 	// MiningToolItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		Random rand = new Random();
-		if (rand.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, stack) + 1) == 0) {
+		if (ToolsUtil.shouldUseEnergy(stack, RandomUtils.get(worldIn))) {
 			Energy.of(stack).use(cost);
 		}
 		return true;
@@ -33,72 +33,33 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.item.ToolMaterials;
-import net.minecraft.tag.BlockTags;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
 import net.minecraft.util.TypedActionResult;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import reborncore.common.util.ItemUtils;
-import team.reborn.energy.Energy;
 import team.reborn.energy.EnergyTier;
 import techreborn.config.TechRebornConfig;
 import techreborn.items.tool.ChainsawItem;
 import techreborn.utils.MessageIDs;
-import techreborn.utils.TagUtils;
-import techreborn.utils.ToolsUtil;
+import techreborn.utils.TreeFellingHandler;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.List;
 
 public class IndustrialChainsawItem extends ChainsawItem {
 
-	private static final Direction[] SEARCH_ORDER = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST, Direction.UP};
-
 	public IndustrialChainsawItem() {
 		super(ToolMaterials.DIAMOND, TechRebornConfig.industrialChainsawCharge, EnergyTier.EXTREME, TechRebornConfig.industrialChainsawCost, 20F, 1.0F, Items.DIAMOND_AXE);
 	}
 
-	private void findWood(World world, BlockPos pos, List<BlockPos> wood, List<BlockPos> leaves) {
-		//Limit the amount of wood to be broken to 64 blocks.
-		if (wood.size() >= 64) {
-			return;
-		}
-		//Search 150 leaves for wood
-		if (leaves.size() >= 150) {
-			return;
-		}
-		for (Direction facing : SEARCH_ORDER) {
-			BlockPos checkPos = pos.offset(facing);
-			if (!wood.contains(checkPos) && !leaves.contains(checkPos)) {
-				BlockState state = world.getBlockState(checkPos);
-				if (TagUtils.hasTag(state.getBlock(), BlockTags.LOGS)) {
-					wood.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
-				} else if (TagUtils.hasTag(state.getBlock(), BlockTags.LEAVES)) {
-					leaves.add(checkPos);
-					findWood(world, checkPos, wood, leaves);
-				}
-			}
-		}
-	}
-
 	//ChainsawItem
 	@Override
 	public boolean postMine(ItemStack stack, World worldIn, BlockState blockIn, BlockPos pos, LivingEntity entityLiving) {
-		List<BlockPos> wood = new ArrayList<>();
-		List<BlockPos> leaves = new ArrayList<>();
-		if (ItemUtils.isActive(stack)) {
-			findWood(worldIn, pos, wood, leaves);
-			wood.remove(pos);
-			wood.stream()
-					.filter(p -> Energy.of(stack).simulate().use(cost))
-					.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, cost));
-			leaves.remove(pos);
-			leaves.forEach(pos1 -> ToolsUtil.breakBlock(stack, worldIn, pos1, entityLiving, 0));
+		if (ItemUtils.isActive(stack) && entityLiving instanceof PlayerEntity) {
+			TreeFellingHandler.fellTree(stack, worldIn, pos, (PlayerEntity) entityLiving, cost);
 		}
 		return super.postMine(stack, worldIn, blockIn, pos, entityLiving);
 	}
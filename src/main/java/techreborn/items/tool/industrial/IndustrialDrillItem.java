@@ -52,6 +52,7 @@ import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 
 public class IndustrialDrillItem extends DrillItem {
@@ -89,11 +90,13 @@ public class IndustrialDrillItem extends DrillItem {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
 		PlayerEntity playerIn = (PlayerEntity) entityLiving;
-		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, 1)) {
+		List<BlockPos> targetBlocks = new ArrayList<>();
+		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, stateIn, entityLiving, 1)) {
 			if (shouldBreak(playerIn, worldIn, pos, additionalPos)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				targetBlocks.add(additionalPos);
 			}
 		}
+		ToolsUtil.breakBlocks(stack, worldIn, targetBlocks, entityLiving, cost);
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
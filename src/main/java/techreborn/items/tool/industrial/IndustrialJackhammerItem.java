@@ -52,6 +52,7 @@ import techreborn.utils.MessageIDs;
 import techreborn.utils.ToolsUtil;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 
 public class IndustrialJackhammerItem extends JackhammerItem {
@@ -113,11 +114,13 @@ public class IndustrialJackhammerItem extends JackhammerItem {
 			return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 		}
 		int radius = isAOE5(stack) ? 2 : 1;
-		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, entityLiving, radius)) {
+		List<BlockPos> targetBlocks = new ArrayList<>();
+		for (BlockPos additionalPos : ToolsUtil.getAOEMiningBlocks(worldIn, pos, stateIn, entityLiving, radius)) {
 			if (shouldBreak(worldIn, pos, additionalPos)) {
-				ToolsUtil.breakBlock(stack, worldIn, additionalPos, entityLiving, cost);
+				targetBlocks.add(additionalPos);
 			}
 		}
+		ToolsUtil.breakBlocks(stack, worldIn, targetBlocks, entityLiving, cost);
 
 		return super.postMine(stack, worldIn, stateIn, pos, entityLiving);
 	}
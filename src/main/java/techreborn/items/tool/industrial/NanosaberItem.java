@@ -51,6 +51,7 @@ import techreborn.TechReborn;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
 import techreborn.utils.MessageIDs;
+import techreborn.utils.PoweredItemUtils;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -64,7 +65,8 @@ public class NanosaberItem extends SwordItem implements EnergyHolder, ItemDurabi
 		super(ToolMaterials.DIAMOND, 1, 1, new Item.Settings().group(TechReborn.ITEMGROUP).maxCount(1).maxDamage(-1));
 		this.addPropertyGetter(new Identifier("techreborn:active"), (stack, worldIn, entityIn) -> {
 			if (ItemUtils.isActive(stack)) {
-				if (Energy.of(stack).getMaxStored() - Energy.of(stack).getEnergy() >= 0.9 * Energy.of(stack).getMaxStored()) {
+				double maxEnergy = PoweredItemUtils.getMaxEnergy(stack);
+				if (maxEnergy - PoweredItemUtils.getEnergy(stack) >= 0.9 * maxEnergy) {
 					return 0.5F;
 				}
 				return 1.0F;
@@ -76,7 +78,7 @@ public class NanosaberItem extends SwordItem implements EnergyHolder, ItemDurabi
 	// SwordItem
 	@Override
 	public boolean postHit(ItemStack stack, LivingEntity entityHit, LivingEntity entityHitter) {
-		return Energy.of(stack).use(cost);
+		return PoweredItemUtils.use(stack, cost);
 	}
 
 	// ToolItem
@@ -51,6 +51,7 @@ import techreborn.TechReborn;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
 import techreborn.utils.InitUtils;
+import techreborn.utils.PoweredItemUtils;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -76,7 +77,7 @@ public class OmniToolItem extends PickaxeItem implements EnergyHolder, ItemDurab
 
 	@Override
 	public float getMiningSpeed(ItemStack stack, BlockState state) {
-		if (Energy.of(stack).getEnergy() >= cost) {
+		if (PoweredItemUtils.hasEnergy(stack, cost)) {
 			return ToolMaterials.DIAMOND.getMiningSpeed();
 		}
 		return super.getMiningSpeed(stack, state);
@@ -91,7 +92,7 @@ public class OmniToolItem extends PickaxeItem implements EnergyHolder, ItemDurab
 
 	@Override
 	public boolean postHit(ItemStack stack, LivingEntity entityliving, LivingEntity attacker) {
-		if (Energy.of(stack).use(hitCost)) {
+		if (PoweredItemUtils.use(stack, hitCost)) {
 			entityliving.damage(DamageSource.player((PlayerEntity) attacker), 8F);
 		}
 		return false;
@@ -43,11 +43,17 @@ public class MultiBlockCasing extends RectangularMultiblockControllerBase {
 	public boolean hasLava;
 	public boolean isStar = false;
 	public int height = 0;
+	// Bumped whenever parts are added or removed or the machine assembles or breaks
+	private int structureVersion;
 
 	public MultiBlockCasing(World world) {
 		super(world);
 	}
 
+	public int getStructureVersion() {
+		return structureVersion;
+	}
+
 	public String getInfo() {
 		String value = "Intact";
 		try {
@@ -219,31 +225,32 @@ public class MultiBlockCasing extends RectangularMultiblockControllerBase {
 
 	@Override
 	protected void onBlockAdded(IMultiblockPart newPart) {
+		structureVersion++;
 	}
 
 	@Override
 	protected void onBlockRemoved(IMultiblockPart oldPart) {
-
+		structureVersion++;
 	}
 
 	@Override
 	protected void onMachineAssembled() {
-
+		structureVersion++;
 	}
 
 	@Override
 	protected void onMachineRestored() {
-
+		structureVersion++;
 	}
 
 	@Override
 	protected void onMachinePaused() {
-
+		structureVersion++;
 	}
 
 	@Override
 	protected void onMachineDisassembled() {
-
+		structureVersion++;
 	}
 
 	@Override
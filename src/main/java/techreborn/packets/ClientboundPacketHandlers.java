@@ -0,0 +1,74 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.packets;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.network.ClientSidePacketRegistry;
+import net.fabricmc.fabric.api.network.PacketContext;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import reborncore.common.network.ExtendedPacketBuffer;
+import techreborn.blockentity.storage.fluid.TankUnitBaseBlockEntity;
+import techreborn.blockentity.storage.item.StorageUnitBaseBlockEntity;
+
+import java.util.function.BiConsumer;
+
+@Environment(EnvType.CLIENT)
+public class ClientboundPacketHandlers {
+
+	public static void init() {
+		registerPacketHandler(ClientboundPackets.STORAGE_UNIT_COUNT, (extendedPacketBuffer, context) -> {
+			BlockPos pos = extendedPacketBuffer.readBlockPos();
+			long storedCount = extendedPacketBuffer.readLong();
+			int outputCount = extendedPacketBuffer.readInt();
+
+			context.getTaskQueue().execute(() -> {
+				BlockEntity blockEntity = context.getPlayer().world.getBlockEntity(pos);
+				if (blockEntity instanceof StorageUnitBaseBlockEntity) {
+					((StorageUnitBaseBlockEntity) blockEntity).applyCountSync(storedCount, outputCount);
+				}
+			});
+		});
+
+		registerPacketHandler(ClientboundPackets.TANK_UNIT_AMOUNT, (extendedPacketBuffer, context) -> {
+			BlockPos pos = extendedPacketBuffer.readBlockPos();
+			int amount = extendedPacketBuffer.readInt();
+
+			context.getTaskQueue().execute(() -> {
+				BlockEntity blockEntity = context.getPlayer().world.getBlockEntity(pos);
+				if (blockEntity instanceof TankUnitBaseBlockEntity) {
+					((TankUnitBaseBlockEntity) blockEntity).applyFluidAmountSync(amount);
+				}
+			});
+		});
+	}
+
+	private static void registerPacketHandler(Identifier identifier, BiConsumer<ExtendedPacketBuffer, PacketContext> consumer) {
+		ClientSidePacketRegistry.INSTANCE.register(identifier, (packetContext, packetByteBuf) -> consumer.accept(new ExtendedPacketBuffer(packetByteBuf), packetContext));
+	}
+
+}
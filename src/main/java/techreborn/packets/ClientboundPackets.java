@@ -24,10 +24,36 @@
 
 package techreborn.packets;
 
+import net.minecraft.network.Packet;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.util.Identifier;
+import reborncore.common.network.NetworkManager;
+import techreborn.TechReborn;
+import techreborn.blockentity.storage.fluid.TankUnitBaseBlockEntity;
+import techreborn.blockentity.storage.item.StorageUnitBaseBlockEntity;
+
 public class ClientboundPackets {
 
+	public static final Identifier STORAGE_UNIT_COUNT = new Identifier(TechReborn.MOD_ID, "storage_unit_count");
+	public static final Identifier TANK_UNIT_AMOUNT = new Identifier(TechReborn.MOD_ID, "tank_unit_amount");
+
 	public static void init() {
 
 	}
 
+	public static Packet<ClientPlayPacketListener> createPacketStorageUnitCount(StorageUnitBaseBlockEntity storageUnit) {
+		return NetworkManager.createClientBoundPacket(STORAGE_UNIT_COUNT, extendedPacketBuffer -> {
+			extendedPacketBuffer.writeBlockPos(storageUnit.getPos());
+			extendedPacketBuffer.writeLong(storageUnit.getStoredAmount());
+			extendedPacketBuffer.writeInt(storageUnit.getOutputCount());
+		});
+	}
+
+	public static Packet<ClientPlayPacketListener> createPacketTankUnitAmount(TankUnitBaseBlockEntity tankUnit) {
+		return NetworkManager.createClientBoundPacket(TANK_UNIT_AMOUNT, extendedPacketBuffer -> {
+			extendedPacketBuffer.writeBlockPos(tankUnit.getPos());
+			extendedPacketBuffer.writeInt(tankUnit.getTank().getFluidAmount().getRawValue());
+		});
+	}
+
 }
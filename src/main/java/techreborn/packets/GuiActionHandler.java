@@ -0,0 +1,174 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.packets;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.fabricmc.fabric.api.event.server.ServerTickCallback;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import techreborn.config.TechRebornConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Applies machine GUI actions sent by clients once per server tick. Actions of the same type for the same block
+ * entity are merged, so a held button costs one block entity lookup and one change per tick. Each player can
+ * only queue a limited number of actions per tick, see {@link TechRebornConfig#guiActionsPerTick}.
+ */
+public final class GuiActionHandler implements ServerTickCallback {
+
+	private static final Map<PlayerEntity, Long2ObjectMap<Map<Identifier, GuiAction>>> ACTIONS = new WeakHashMap<>();
+	private static final Map<PlayerEntity, Integer> RECEIVED = new WeakHashMap<>();
+
+	private GuiActionHandler() {
+	}
+
+	static void setup() {
+		ServerTickCallback.EVENT.register(new GuiActionHandler());
+	}
+
+	/**
+	 * Queues an action for the block entity at the given position. Has to be called on the server thread.
+	 */
+	static void queue(PlayerEntity player, BlockPos pos, Identifier type, GuiAction action) {
+		int received = RECEIVED.merge(player, 1, Integer::sum);
+		if (received > TechRebornConfig.guiActionsPerTick) {
+			return;
+		}
+		ACTIONS.computeIfAbsent(player, p -> new Long2ObjectLinkedOpenHashMap<>())
+				.computeIfAbsent(pos.asLong(), p -> new LinkedHashMap<>())
+				.merge(type, action, GuiAction::merge);
+	}
+
+	@Override
+	public void tick(MinecraftServer server) {
+		RECEIVED.clear();
+		if (ACTIONS.isEmpty()) {
+			return;
+		}
+		for (Map.Entry<PlayerEntity, Long2ObjectMap<Map<Identifier, GuiAction>>> entry : ACTIONS.entrySet()) {
+			PlayerEntity player = entry.getKey();
+			if (player.removed) {
+				continue;
+			}
+			for (Long2ObjectMap.Entry<Map<Identifier, GuiAction>> pending : entry.getValue().long2ObjectEntrySet()) {
+				BlockEntity blockEntity = player.world.getBlockEntity(BlockPos.fromLong(pending.getLongKey()));
+				if (blockEntity == null) {
+					continue;
+				}
+				for (GuiAction action : pending.getValue().values()) {
+					action.apply(blockEntity, player);
+				}
+			}
+		}
+		ACTIONS.clear();
+	}
+
+	@FunctionalInterface
+	interface GuiAction {
+		void apply(BlockEntity blockEntity, PlayerEntity player);
+
+		/**
+		 * Merges an action queued later in the same tick. By default the later action replaces this one.
+		 */
+		default GuiAction merge(GuiAction next) {
+			return next;
+		}
+	}
+
+	@FunctionalInterface
+	interface AmountConsumer<T extends BlockEntity> {
+		void apply(T blockEntity, PlayerEntity player, int amount);
+	}
+
+	@FunctionalInterface
+	interface Clamp<T extends BlockEntity> {
+		int clamp(T blockEntity, int value);
+	}
+
+	/**
+	 * Changes a value by an amount. Amounts queued in the same tick are replayed on the current value with the block
+	 * entity's own clamp after each one, so the merged change ends where applying them one by one would. It is
+	 * applied once, and not at all when the value ends up unchanged.
+	 */
+	static class DeltaAction<T extends BlockEntity> implements GuiAction {
+		private final Class<T> type;
+		private final IntList amounts;
+		private final ToIntFunction<T> getter;
+		private final Clamp<T> clamp;
+		private final AmountConsumer<T> consumer;
+
+		DeltaAction(Class<T> type, int amount, ToIntFunction<T> getter, Clamp<T> clamp, AmountConsumer<T> consumer) {
+			this(type, IntLists.singleton(amount), getter, clamp, consumer);
+		}
+
+		private DeltaAction(Class<T> type, IntList amounts, ToIntFunction<T> getter, Clamp<T> clamp, AmountConsumer<T> consumer) {
+			this.type = type;
+			this.amounts = amounts;
+			this.getter = getter;
+			this.clamp = clamp;
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void apply(BlockEntity blockEntity, PlayerEntity player) {
+			if (!type.isInstance(blockEntity)) {
+				return;
+			}
+			T target = type.cast(blockEntity);
+			int current = getter.applyAsInt(target);
+			int value = current;
+			for (int i = 0; i < amounts.size(); i++) {
+				value = clamp.clamp(target, value + amounts.getInt(i));
+			}
+			if (value != current) {
+				consumer.apply(target, player, value - current);
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public GuiAction merge(GuiAction next) {
+			if (next instanceof DeltaAction && ((DeltaAction<?>) next).type == type) {
+				DeltaAction<T> nextDelta = (DeltaAction<T>) next;
+				IntList merged = new IntArrayList(amounts);
+				merged.addAll(nextDelta.amounts);
+				// Keep the later consumer, it may carry newer flags from the packet
+				return new DeltaAction<>(type, merged, getter, clamp, nextDelta.consumer);
+			}
+			return next;
+		}
+	}
+}
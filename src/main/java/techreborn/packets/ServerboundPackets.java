@@ -26,7 +26,6 @@ package techreborn.packets;
 
 import net.fabricmc.fabric.api.network.PacketContext;
 import net.fabricmc.fabric.api.network.ServerSidePacketRegistry;
-import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -46,6 +45,8 @@ import techreborn.blockentity.storage.energy.AdjustableSUBlockEntity;
 import techreborn.blockentity.storage.item.StorageUnitBaseBlockEntity;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
+import techreborn.packets.GuiActionHandler.DeltaAction;
+import techreborn.packets.GuiActionHandler.GuiAction;
 
 import java.util.function.BiConsumer;
 
@@ -61,28 +62,29 @@ public class ServerboundPackets {
 	public static final Identifier EXPERIENCE = new Identifier(TechReborn.MOD_ID, "experience");
 	
 	public static void init() {
+		GuiActionHandler.setup();
+
 		registerPacketHandler(AESU, (extendedPacketBuffer, context) -> {
 			BlockPos pos = extendedPacketBuffer.readBlockPos();
 			int buttonID = extendedPacketBuffer.readInt();
 			boolean shift = extendedPacketBuffer.readBoolean();
 			boolean ctrl = extendedPacketBuffer.readBoolean();
 
-			context.getTaskQueue().execute(() -> {
-				BlockEntity blockEntity = context.getPlayer().world.getBlockEntity(pos);
-				if (blockEntity instanceof AdjustableSUBlockEntity) {
-					((AdjustableSUBlockEntity) blockEntity).handleGuiInputFromClient(buttonID, shift, ctrl);
-				}
-			});
+			// Modifiers are applied here so changes from several packets can be added up
+			int amount = buttonID * (shift ? 4 : 1) * (ctrl ? 8 : 1);
+
+			queue(context, pos, AESU, new DeltaAction<>(AdjustableSUBlockEntity.class, amount,
+					AdjustableSUBlockEntity::getCurrentOutput, AdjustableSUBlockEntity::clampOutput,
+					(blockEntity, player, total) -> blockEntity.handleGuiInputFromClient(total, false, false)));
 		});
 
 		registerPacketHandler(AUTO_CRAFTING_LOCK, (extendedPacketBuffer, context) -> {
 			BlockPos machinePos = extendedPacketBuffer.readBlockPos();
 			boolean locked = extendedPacketBuffer.readBoolean();
 
-			context.getTaskQueue().execute(() -> {
-				BlockEntity BlockEntity = context.getPlayer().world.getBlockEntity(machinePos);
-				if (BlockEntity instanceof AutoCraftingTableBlockEntity) {
-					((AutoCraftingTableBlockEntity) BlockEntity).locked = locked;
+			queue(context, machinePos, AUTO_CRAFTING_LOCK, (blockEntity, player) -> {
+				if (blockEntity instanceof AutoCraftingTableBlockEntity) {
+					((AutoCraftingTableBlockEntity) blockEntity).locked = locked;
 				}
 			});
 		});
@@ -91,22 +93,18 @@ public class ServerboundPackets {
 			int sizeDelta = extendedPacketBuffer.readInt();
 			BlockPos pos = extendedPacketBuffer.readBlockPos();
 
-			context.getTaskQueue().execute(() -> {
-				BlockEntity blockEntity = context.getPlayer().world.getBlockEntity(pos);
-				if (blockEntity instanceof FusionControlComputerBlockEntity) {
-					((FusionControlComputerBlockEntity) blockEntity).changeSize(sizeDelta);
-				}
-			});
+			queue(context, pos, FUSION_CONTROL_SIZE, new DeltaAction<>(FusionControlComputerBlockEntity.class, sizeDelta,
+					FusionControlComputerBlockEntity::getSize, (blockEntity, size) -> FusionControlComputerBlockEntity.clampSize(size),
+					(blockEntity, player, total) -> blockEntity.changeSize(total)));
 		});
 
 		registerPacketHandler(ROLLING_MACHINE_LOCK, (extendedPacketBuffer, context) -> {
 			BlockPos machinePos = extendedPacketBuffer.readBlockPos();
 			boolean locked = extendedPacketBuffer.readBoolean();
 
-			context.getTaskQueue().execute(() -> {
-				BlockEntity BlockEntity = context.getPlayer().world.getBlockEntity(machinePos);
-				if (BlockEntity instanceof RollingMachineBlockEntity) {
-					((RollingMachineBlockEntity) BlockEntity).locked = locked;
+			queue(context, machinePos, ROLLING_MACHINE_LOCK, (blockEntity, player) -> {
+				if (blockEntity instanceof RollingMachineBlockEntity) {
+					((RollingMachineBlockEntity) blockEntity).locked = locked;
 				}
 			});
 		});
@@ -115,10 +113,9 @@ public class ServerboundPackets {
 			BlockPos machinePos = extendedPacketBuffer.readBlockPos();
 			boolean locked = extendedPacketBuffer.readBoolean();
 
-			context.getTaskQueue().execute(() -> {
-				BlockEntity BlockEntity = context.getPlayer().world.getBlockEntity(machinePos);
-				if (BlockEntity instanceof StorageUnitBaseBlockEntity) {
-					((StorageUnitBaseBlockEntity) BlockEntity).setLocked(locked);
+			queue(context, machinePos, STORAGE_UNIT_LOCK, (blockEntity, player) -> {
+				if (blockEntity instanceof StorageUnitBaseBlockEntity) {
+					((StorageUnitBaseBlockEntity) blockEntity).setLocked(locked);
 				}
 			});
 		});
@@ -147,26 +144,26 @@ public class ServerboundPackets {
 			int buttonID = extendedPacketBuffer.readInt();
 			boolean sync = extendedPacketBuffer.readBoolean();
 			
-			context.getTaskQueue().execute(() -> {
-				BlockEntity blockEntity = context.getPlayer().world.getBlockEntity(pos);
-				if (blockEntity instanceof ChunkLoaderBlockEntity) {
-					((ChunkLoaderBlockEntity) blockEntity).handleGuiInputFromClient(buttonID, sync ? context.getPlayer() : null);
-				}
-			});
+			queue(context, pos, CHUNKLOADER, new DeltaAction<>(ChunkLoaderBlockEntity.class, buttonID,
+					ChunkLoaderBlockEntity::getRadius, (blockEntity, radius) -> ChunkLoaderBlockEntity.clampRadius(radius),
+					(blockEntity, player, total) -> blockEntity.handleGuiInputFromClient(total, sync ? player : null)));
 		});
 		
 		registerPacketHandler(EXPERIENCE, (extendedPacketBuffer, context) -> {
 			BlockPos pos = extendedPacketBuffer.readBlockPos();
 			
-			context.getTaskQueue().execute(() -> {
-				BlockEntity blockEntity = context.getPlayer().world.getBlockEntity(pos);
+			queue(context, pos, EXPERIENCE, (blockEntity, player) -> {
 				if (blockEntity instanceof IronFurnaceBlockEntity) {
-					((IronFurnaceBlockEntity) blockEntity).handleGuiInputFromClient(context.getPlayer());
+					((IronFurnaceBlockEntity) blockEntity).handleGuiInputFromClient(player);
 				}
 			});
 		});
 	}
 
+	private static void queue(PacketContext context, BlockPos pos, Identifier type, GuiAction action) {
+		context.getTaskQueue().execute(() -> GuiActionHandler.queue(context.getPlayer(), pos, type, action));
+	}
+
 	private static void registerPacketHandler(Identifier identifier, BiConsumer<ExtendedPacketBuffer, PacketContext> consumer){
 		ServerSidePacketRegistry.INSTANCE.register(identifier, (packetContext, packetByteBuf) -> consumer.accept(new ExtendedPacketBuffer(packetByteBuf), packetContext));
 	}
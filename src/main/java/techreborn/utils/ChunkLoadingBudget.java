@@ -0,0 +1,217 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import com.mojang.authlib.GameProfile;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Tickable;
+import net.minecraft.util.TypeFilterableList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import techreborn.config.TechRebornConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps count of the chunks force loaded by chunk loaders, per owner and per world, and enforces
+ * {@link TechRebornConfig#chunkLoaderMaxChunksPerPlayer} and {@link TechRebornConfig#chunkLoaderMaxChunksPerWorld}.
+ * A chunk kept loaded by several loaders only counts once.
+ */
+public final class ChunkLoadingBudget {
+
+	private static final int REPORTED_CHUNKS = 5;
+
+	private static final Map<World, WorldBudget> BUDGETS = new WeakHashMap<>();
+
+	private ChunkLoadingBudget() {
+	}
+
+	/**
+	 * Counts a chunk against the owner's and the world's budget.
+	 *
+	 * @return false if loading the chunk would go over either quota
+	 */
+	public static boolean acquire(World world, String owner, ChunkPos pos) {
+		WorldBudget budget = BUDGETS.computeIfAbsent(world, w -> new WorldBudget());
+		Long2IntOpenHashMap ownerChunks = budget.owners.computeIfAbsent(owner, o -> new Long2IntOpenHashMap());
+		long key = pos.toLong();
+		if (!ownerChunks.containsKey(key)) {
+			int ownerLimit = TechRebornConfig.chunkLoaderMaxChunksPerPlayer;
+			if (ownerLimit > 0 && getOwnerChunkCount(owner) >= ownerLimit) {
+				return false;
+			}
+			int worldLimit = TechRebornConfig.chunkLoaderMaxChunksPerWorld;
+			if (worldLimit > 0 && !budget.chunks.containsKey(key) && budget.chunks.size() >= worldLimit) {
+				return false;
+			}
+		}
+		ownerChunks.addTo(key, 1);
+		budget.chunks.addTo(key, 1);
+		return true;
+	}
+
+	/**
+	 * Gives back a chunk previously counted with {@link #acquire(World, String, ChunkPos)}.
+	 */
+	public static void release(World world, String owner, ChunkPos pos) {
+		WorldBudget budget = BUDGETS.get(world);
+		if (budget == null) {
+			return;
+		}
+		long key = pos.toLong();
+		Long2IntOpenHashMap ownerChunks = budget.owners.get(owner);
+		if (ownerChunks != null && decrement(ownerChunks, key) && ownerChunks.isEmpty()) {
+			budget.owners.remove(owner);
+		}
+		decrement(budget.chunks, key);
+	}
+
+	/**
+	 * @return true if a chunk loader keeps the chunk loaded
+	 */
+	public static boolean isLoadedByChunkLoader(World world, ChunkPos pos) {
+		WorldBudget budget = BUDGETS.get(world);
+		return budget != null && budget.chunks.containsKey(pos.toLong());
+	}
+
+	private static boolean decrement(Long2IntOpenHashMap counts, long key) {
+		if (!counts.containsKey(key)) {
+			return false;
+		}
+		if (counts.addTo(key, -1) <= 1) {
+			counts.remove(key);
+		}
+		return true;
+	}
+
+	private static int getOwnerChunkCount(String owner) {
+		int count = 0;
+		for (WorldBudget budget : BUDGETS.values()) {
+			Long2IntOpenHashMap ownerChunks = budget.owners.get(owner);
+			if (ownerChunks != null) {
+				count += ownerChunks.size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Lists the force loaded chunks of every world by owner, followed by the chunks with the most ticking block
+	 * entities and entities, which is what a force loaded chunk costs each tick.
+	 */
+	public static List<String> report(MinecraftServer server) {
+		List<String> lines = new ArrayList<>();
+		for (ServerWorld world : server.getWorlds()) {
+			WorldBudget budget = BUDGETS.get(world);
+			if (budget == null || budget.chunks.isEmpty()) {
+				continue;
+			}
+			lines.add(String.format(Locale.ROOT, "%s: %d chunks loaded by chunk loaders (limit %s)",
+					Registry.DIMENSION_TYPE.getId(world.getDimension().getType()), budget.chunks.size(), formatLimit(TechRebornConfig.chunkLoaderMaxChunksPerWorld)));
+			for (Map.Entry<String, Long2IntOpenHashMap> owner : budget.owners.entrySet()) {
+				lines.add(String.format(Locale.ROOT, "  %s: %d chunks (limit %s across all worlds)",
+						getOwnerName(server, owner.getKey()), owner.getValue().size(), formatLimit(TechRebornConfig.chunkLoaderMaxChunksPerPlayer)));
+			}
+
+			List<ChunkLoad> loads = new ArrayList<>();
+			for (Long2IntMap.Entry entry : budget.chunks.long2IntEntrySet()) {
+				ChunkPos pos = new ChunkPos(entry.getLongKey());
+				WorldChunk chunk = world.getChunkManager().getWorldChunk(pos.x, pos.z, false);
+				if (chunk != null) {
+					loads.add(new ChunkLoad(pos, chunk));
+				}
+			}
+			loads.sort(Comparator.comparingInt(ChunkLoad::getTotal).reversed());
+			for (ChunkLoad load : loads.subList(0, Math.min(REPORTED_CHUNKS, loads.size()))) {
+				lines.add(String.format(Locale.ROOT, "  chunk [%d, %d]: %d ticking block entities, %d entities",
+						load.pos.x, load.pos.z, load.blockEntities, load.entities));
+			}
+		}
+		if (lines.isEmpty()) {
+			lines.add("No chunks are loaded by chunk loaders");
+		}
+		return lines;
+	}
+
+	private static String formatLimit(int limit) {
+		return limit > 0 ? String.valueOf(limit) : "none";
+	}
+
+	private static String getOwnerName(MinecraftServer server, String owner) {
+		try {
+			GameProfile profile = server.getUserCache().getByUuid(UUID.fromString(owner));
+			return profile != null ? profile.getName() : owner;
+		} catch (IllegalArgumentException e) {
+			return "unknown owner";
+		}
+	}
+
+	private static class WorldBudget {
+		// Chunks per owner, with the number of that owner's loaders keeping each one loaded
+		private final Map<String, Long2IntOpenHashMap> owners = new HashMap<>();
+		// All chunks loaded in the world, with the number of loaders keeping each one loaded
+		private final Long2IntOpenHashMap chunks = new Long2IntOpenHashMap();
+	}
+
+	private static class ChunkLoad {
+		private final ChunkPos pos;
+		private final int blockEntities;
+		private final int entities;
+
+		private ChunkLoad(ChunkPos pos, WorldChunk chunk) {
+			this.pos = pos;
+			int ticking = 0;
+			for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+				if (blockEntity instanceof Tickable) {
+					ticking++;
+				}
+			}
+			this.blockEntities = ticking;
+			int entityCount = 0;
+			for (TypeFilterableList<Entity> section : chunk.getEntitySectionArray()) {
+				entityCount += section.size();
+			}
+			this.entities = entityCount;
+		}
+
+		private int getTotal() {
+			return blockEntities + entities;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import net.minecraft.fluid.Fluid;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.ItemStack;
+import reborncore.common.util.Tank;
+
+/**
+ * Remembers the last seen state of a machine's fluid container slots and tank, so that
+ * containers are only processed again once one of them has changed.
+ */
+public class FluidContainerTracker {
+
+	private final Tank tank;
+	private final Inventory inventory;
+	private final int inputSlot;
+	private final int outputSlot;
+
+	private ItemStack lastInput = null;
+	private int lastInputCount;
+	private ItemStack lastOutput = null;
+	private int lastOutputCount;
+	private Fluid lastFluid;
+	private int lastAmount;
+
+	public FluidContainerTracker(Tank tank, Inventory inventory, int inputSlot, int outputSlot) {
+		this.tank = tank;
+		this.inventory = inventory;
+		this.inputSlot = inputSlot;
+		this.outputSlot = outputSlot;
+	}
+
+	public boolean hasChanged() {
+		ItemStack input = inventory.getInvStack(inputSlot);
+		ItemStack output = inventory.getInvStack(outputSlot);
+
+		return input != lastInput || input.getCount() != lastInputCount
+			|| output != lastOutput || output.getCount() != lastOutputCount
+			|| tank.getFluid() != lastFluid || tank.getFluidAmount().getRawValue() != lastAmount;
+	}
+
+	/**
+	 * Snapshots the current state. Call this before processing containers: if processing changes
+	 * anything, the next {@link #hasChanged()} returns true and the next container gets processed.
+	 */
+	public void update() {
+		lastInput = inventory.getInvStack(inputSlot);
+		lastInputCount = lastInput.getCount();
+		lastOutput = inventory.getInvStack(outputSlot);
+		lastOutputCount = lastOutput.getCount();
+		lastFluid = tank.getFluid();
+		lastAmount = tank.getFluidAmount().getRawValue();
+	}
+
+	/**
+	 * Processes containers in the input slot if anything changed since the last call.
+	 *
+	 * @return true if the containers were processed
+	 */
+	public boolean process(Runnable processor) {
+		if (!hasChanged()) {
+			return false;
+		}
+		update();
+		processor.run();
+		return true;
+	}
+}
@@ -66,8 +66,9 @@ public class FluidUtils {
 		ItemFluidInfo itemFluidInfo = (ItemFluidInfo) inputStack.getItem();
 		FluidInstance targetFluidInstance = target.getFluidInstance(null);
 		Fluid currentFluid = targetFluidInstance.getFluid();
+		Fluid containerFluid = itemFluidInfo.getFluid(inputStack);
 
-		if(targetFluidInstance.isEmpty() || currentFluid == itemFluidInfo.getFluid(inputStack)) {
+		if(targetFluidInstance.isEmpty() || currentFluid == containerFluid) {
 			FluidValue freeSpace = target.getCapacity(null).subtract(targetFluidInstance.getAmount());
 
 			if(!outputStack.isEmpty()){
@@ -78,7 +79,7 @@ public class FluidUtils {
 
 			if(freeSpace.equalOrMoreThan(FluidValue.BUCKET)){
 				inputStack.decrement(1);
-				targetFluidInstance.setFluid(itemFluidInfo.getFluid(inputStack));
+				targetFluidInstance.setFluid(containerFluid);
 				targetFluidInstance.addAmount(FluidValue.BUCKET);
 
 				if(outputStack.isEmpty()){
@@ -0,0 +1,127 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.fabric.api.event.world.WorldTickCallback;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.tag.BlockTags;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Makes leaves around broken rubber logs decay. Logs broken in the same tick share one set of leaf positions,
+ * which is then checked over the following ticks, a limited amount of positions per tick.
+ */
+public final class LeafDecayHandler implements WorldTickCallback {
+
+	private static final int RADIUS = 4;
+	private static final int CHECKS_PER_TICK = 512;
+
+	private static final Map<World, DecayQueue> QUEUES = new WeakHashMap<>();
+
+	private LeafDecayHandler() {
+	}
+
+	public static void setup() {
+		WorldTickCallback.EVENT.register(new LeafDecayHandler());
+	}
+
+	/**
+	 * Queues the leaves around a broken log for a decay check.
+	 */
+	public static void onLogBroken(World world, BlockPos pos) {
+		if (!(world instanceof ServerWorld)) {
+			return;
+		}
+		QUEUES.computeIfAbsent(world, w -> new DecayQueue()).brokenLogs.add(pos.asLong());
+	}
+
+	@Override
+	public void tick(World world) {
+		if (!(world instanceof ServerWorld)) {
+			return;
+		}
+		DecayQueue queue = QUEUES.get(world);
+		if (queue == null) {
+			return;
+		}
+		queue.expandBrokenLogs(world);
+		queue.checkLeaves((ServerWorld) world);
+	}
+
+	private static class DecayQueue {
+		// Logs broken since the last tick
+		private final LongOpenHashSet brokenLogs = new LongOpenHashSet();
+		// Positions waiting for a decay check, each position only once however many logs were around it
+		private final LongLinkedOpenHashSet leaves = new LongLinkedOpenHashSet();
+
+		private void expandBrokenLogs(World world) {
+			if (brokenLogs.isEmpty()) {
+				return;
+			}
+			LongIterator iterator = brokenLogs.iterator();
+			while (iterator.hasNext()) {
+				BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+				int outer = RADIUS + 1;
+				if (!world.isRegionLoaded(pos.add(-outer, -outer, -outer), pos.add(outer, outer, outer))) {
+					continue;
+				}
+				for (int x = -RADIUS; x <= RADIUS; x++) {
+					for (int y = -RADIUS; y <= RADIUS; y++) {
+						for (int z = -RADIUS; z <= RADIUS; z++) {
+							leaves.add(BlockPos.asLong(pos.getX() + x, pos.getY() + y, pos.getZ() + z));
+						}
+					}
+				}
+			}
+			brokenLogs.clear();
+		}
+
+		private void checkLeaves(ServerWorld world) {
+			BlockPos.Mutable pos = new BlockPos.Mutable();
+			for (int i = 0; i < CHECKS_PER_TICK && !leaves.isEmpty(); i++) {
+				long packed = leaves.removeFirstLong();
+				pos.set(BlockPos.unpackLongX(packed), BlockPos.unpackLongY(packed), BlockPos.unpackLongZ(packed));
+				if (!world.isRegionLoaded(pos, pos)) {
+					continue;
+				}
+				BlockState state = world.getBlockState(pos);
+				if (state.matches(BlockTags.LEAVES)) {
+					BlockPos leafPos = pos.toImmutable();
+					state.scheduledTick(world, leafPos, world.getRandom());
+					// The scheduled tick may have changed the distance, so decay against the updated state
+					world.getBlockState(leafPos).randomTick(world, leafPos, world.getRandom());
+				}
+			}
+		}
+	}
+}
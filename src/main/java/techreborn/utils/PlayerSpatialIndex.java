@@ -0,0 +1,101 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Players of a world grouped into 128 block wide columns, so range queries only look at players in the
+ * surrounding columns. The index of a world is rebuilt at most once per tick, on the first query of that tick.
+ */
+public final class PlayerSpatialIndex {
+
+	private static final int CELL_SHIFT = 7;
+
+	private static final Map<World, WorldIndex> INDEXES = new WeakHashMap<>();
+
+	private PlayerSpatialIndex() {
+	}
+
+	/**
+	 * @return players within the given distance of the center of the block
+	 */
+	public static List<PlayerEntity> getPlayersInRange(World world, BlockPos pos, double range) {
+		WorldIndex index = INDEXES.computeIfAbsent(world, w -> new WorldIndex());
+		if (index.builtAt != world.getTime()) {
+			index.rebuild(world);
+		}
+
+		List<PlayerEntity> players = new ArrayList<>();
+		if (index.cells.isEmpty()) {
+			return players;
+		}
+		double x = pos.getX() + 0.5D;
+		double y = pos.getY() + 0.5D;
+		double z = pos.getZ() + 0.5D;
+		double rangeSq = range * range;
+		int minX = (int) Math.floor(x - range) >> CELL_SHIFT;
+		int maxX = (int) Math.floor(x + range) >> CELL_SHIFT;
+		int minZ = (int) Math.floor(z - range) >> CELL_SHIFT;
+		int maxZ = (int) Math.floor(z + range) >> CELL_SHIFT;
+		for (int cellX = minX; cellX <= maxX; cellX++) {
+			for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+				List<PlayerEntity> cell = index.cells.get(ChunkPos.toLong(cellX, cellZ));
+				if (cell == null) {
+					continue;
+				}
+				for (PlayerEntity player : cell) {
+					if (player.squaredDistanceTo(x, y, z) <= rangeSq) {
+						players.add(player);
+					}
+				}
+			}
+		}
+		return players;
+	}
+
+	private static class WorldIndex {
+		private final Long2ObjectOpenHashMap<List<PlayerEntity>> cells = new Long2ObjectOpenHashMap<>();
+		private long builtAt = Long.MIN_VALUE;
+
+		private void rebuild(World world) {
+			cells.clear();
+			for (PlayerEntity player : world.getPlayers()) {
+				long cell = ChunkPos.toLong((int) Math.floor(player.getX()) >> CELL_SHIFT, (int) Math.floor(player.getZ()) >> CELL_SHIFT);
+				cells.computeIfAbsent(cell, c -> new ArrayList<>()).add(player);
+			}
+			builtAt = world.getTime();
+		}
+	}
+}
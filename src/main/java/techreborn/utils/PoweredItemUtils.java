@@ -0,0 +1,159 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundTag;
+import reborncore.common.powerSystem.PowerAcceptorBlockEntity;
+import team.reborn.energy.Energy;
+import team.reborn.energy.EnergyHolder;
+import team.reborn.energy.EnergySide;
+import techreborn.items.BatteryItem;
+import techreborn.items.armor.BatpackItem;
+import techreborn.items.armor.CloakingDeviceItem;
+import techreborn.items.armor.QuantumSuitItem;
+import techreborn.items.tool.ChainsawItem;
+import techreborn.items.tool.DrillItem;
+import techreborn.items.tool.JackhammerItem;
+import techreborn.items.tool.advanced.RockCutterItem;
+import techreborn.items.tool.basic.ElectricTreetapItem;
+import techreborn.items.tool.industrial.NanosaberItem;
+import techreborn.items.tool.industrial.OmniToolItem;
+
+/**
+ * Allocation free energy reads for TechReborn's own powered items. Their charge is the plain energy tag on
+ * the stack, so reading it directly is always in step with the stack, unlike Energy.of which builds a new
+ * handler on every call. Items from other mods may store their charge differently and always go through
+ * Energy.of.
+ */
+public class PoweredItemUtils {
+
+	// Tag key used by the energy API for item storage
+	private static final String ENERGY_KEY = "energy";
+
+	public static double getEnergy(ItemStack stack) {
+		if (!isTechRebornItem(stack.getItem())) {
+			return Energy.valid(stack) ? Energy.of(stack).getEnergy() : 0;
+		}
+		CompoundTag tag = stack.getTag();
+		if (tag == null) {
+			return 0;
+		}
+		return tag.getDouble(ENERGY_KEY);
+	}
+
+	public static double getMaxEnergy(ItemStack stack) {
+		if (isTechRebornItem(stack.getItem())) {
+			return ((EnergyHolder) stack.getItem()).getMaxStoredPower();
+		}
+		return Energy.valid(stack) ? Energy.of(stack).getMaxStored() : 0;
+	}
+
+	public static boolean hasEnergy(ItemStack stack, double amount) {
+		return getEnergy(stack) >= amount;
+	}
+
+	/**
+	 * Uses the given amount of energy, only building an energy handler when there is enough charge.
+	 */
+	public static boolean use(ItemStack stack, double amount) {
+		if (!hasEnergy(stack, amount)) {
+			return false;
+		}
+		return Energy.of(stack).use(amount);
+	}
+
+	/**
+	 * Moves up to maxAmount of energy from the block entity into the stack, writing the stack tag once.
+	 * Items from other mods fall back to Energy.of.
+	 *
+	 * @return the amount of energy moved
+	 */
+	public static double chargeItem(PowerAcceptorBlockEntity source, ItemStack stack, double maxAmount) {
+		if (stack.isEmpty()) {
+			return 0;
+		}
+		if (!isTechRebornItem(stack.getItem())) {
+			return Energy.valid(stack) ? Energy.of(source).into(Energy.of(stack)).move(maxAmount) : 0;
+		}
+		EnergyHolder holder = (EnergyHolder) stack.getItem();
+		double stored = getEnergy(stack);
+		double amount = Math.min(maxAmount, holder.getMaxStoredPower() - stored);
+		amount = Math.min(amount, holder.getMaxInput(EnergySide.UNKNOWN));
+		amount = Math.min(amount, source.getMaxOutput(EnergySide.UNKNOWN));
+		amount = Math.min(amount, source.getEnergy());
+		if (amount <= 0) {
+			return 0;
+		}
+		source.useEnergy(amount);
+		stack.getOrCreateTag().putDouble(ENERGY_KEY, stored + amount);
+		return amount;
+	}
+
+	/**
+	 * Moves up to maxAmount of energy from the stack into the block entity, writing the stack tag once.
+	 * Items from other mods fall back to Energy.of.
+	 *
+	 * @return the amount of energy moved
+	 */
+	public static double dischargeItem(PowerAcceptorBlockEntity target, ItemStack stack, double maxAmount) {
+		if (stack.isEmpty()) {
+			return 0;
+		}
+		if (!isTechRebornItem(stack.getItem())) {
+			return Energy.valid(stack) ? Energy.of(stack).into(Energy.of(target)).move(maxAmount) : 0;
+		}
+		EnergyHolder holder = (EnergyHolder) stack.getItem();
+		double stored = getEnergy(stack);
+		double amount = Math.min(maxAmount, stored);
+		amount = Math.min(amount, holder.getMaxOutput(EnergySide.UNKNOWN));
+		amount = Math.min(amount, target.getMaxInput(EnergySide.UNKNOWN));
+		amount = Math.min(amount, target.getMaxPower() - target.getEnergy());
+		if (amount <= 0) {
+			return 0;
+		}
+		target.addEnergy(amount);
+		stack.getOrCreateTag().putDouble(ENERGY_KEY, stored - amount);
+		return amount;
+	}
+
+	/**
+	 * TechReborn's powered items keep the default energy storage, other {@link EnergyHolder}s may not.
+	 */
+	private static boolean isTechRebornItem(Item item) {
+		return item instanceof BatteryItem
+				|| item instanceof BatpackItem
+				|| item instanceof ChainsawItem
+				|| item instanceof CloakingDeviceItem
+				|| item instanceof DrillItem
+				|| item instanceof ElectricTreetapItem
+				|| item instanceof JackhammerItem
+				|| item instanceof NanosaberItem
+				|| item instanceof OmniToolItem
+				|| item instanceof QuantumSuitItem
+				|| item instanceof RockCutterItem;
+	}
+}
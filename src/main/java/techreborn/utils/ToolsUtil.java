@@ -24,90 +24,209 @@
 
 package techreborn.utils;
 
-import com.google.common.collect.ImmutableSet;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.enchantment.Enchantments;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.hit.BlockHitResult;
-import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.World;
 import team.reborn.energy.Energy;
+import team.reborn.energy.EnergyHandler;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author drcrazy
  */
 
 public class ToolsUtil {
-	public static void breakBlock(ItemStack tool, World world, BlockPos pos, LivingEntity entityLiving, int cost) {
-		if (!(entityLiving instanceof PlayerEntity)) {
+
+	// Offsets of the blocks broken by AOE tools, keyed by radius and hit face / player facing
+	private static final Map<Integer, BlockPos[]> AOE_PATTERNS = new ConcurrentHashMap<>();
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	/**
+	 *  Rolls whether a tool use should cost energy, taking the Unbreaking enchantment into account
+	 * @param tool ItemStack Tool being used
+	 * @param random Random Random source, see {@link RandomUtils}
+	 * @return boolean True if energy should be used
+	 */
+	public static boolean shouldUseEnergy(ItemStack tool, Random random) {
+		return random.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, tool) + 1) == 0;
+	}
+
+	/**
+	 *  Breaks all the blocks hit by an AOE tool as one batch. Energy is charged once for the whole batch and
+	 *  neighbour updates are only sent to blocks outside of the broken set. Each block still goes through its own
+	 *  {@link Block#afterBreak} for stats, drops and any custom break behaviour.
+	 * @param tool ItemStack Tool used to break the blocks
+	 * @param world World reference
+	 * @param positions Collection of BlockPos to break
+	 * @param entityLiving LivingEntity Player who broke block
+	 * @param cost int Energy cost per block
+	 */
+	public static void breakBlocks(ItemStack tool, World world, Collection<BlockPos> positions, LivingEntity entityLiving, int cost) {
+		if (!(entityLiving instanceof PlayerEntity) || !(world instanceof ServerWorld) || positions.isEmpty()) {
 			return;
 		}
-		BlockState blockState = world.getBlockState(pos);
-		if (blockState.getHardness(world, pos) == -1.0F) {
-			return;
+		PlayerEntity player = (PlayerEntity) entityLiving;
+		EnergyHandler energy = Energy.of(tool);
+		double energyAvailable = energy.getEnergy();
+		double energyUsed = 0;
+		Random random = RandomUtils.get(world);
+
+		Set<BlockPos> brokenBlocks = new HashSet<>();
+
+		for (BlockPos pos : positions) {
+			BlockState blockState = world.getBlockState(pos);
+			if (blockState.getHardness(world, pos) == -1.0F) {
+				continue;
+			}
+			if (shouldUseEnergy(tool, random)) {
+				if (energyAvailable - energyUsed < cost) {
+					continue;
+				}
+				energyUsed += cost;
+			}
+
+			// Neighbours are updated once the whole batch is removed
+			BlockEntity blockEntity = world.getBlockEntity(pos);
+			world.setBlockState(pos, Blocks.AIR.getDefaultState(), 2 | 16);
+			blockState.getBlock().afterBreak(world, player, pos, blockState, blockEntity, tool);
+			// Blocks such as ice put something back, that placement already updated the neighbours
+			if (world.getBlockState(pos).isAir()) {
+				brokenBlocks.add(pos);
+			}
+		}
+
+		if (energyUsed > 0) {
+			energy.use(energyUsed);
 		}
-		Random rand = new Random();
-		if (rand.nextInt(EnchantmentHelper.getLevel(Enchantments.UNBREAKING, tool) + 1) == 0) {
-			if (!Energy.of(tool).use(cost)) {
-				return;
+
+		BlockState air = Blocks.AIR.getDefaultState();
+		for (BlockPos pos : brokenBlocks) {
+			for (Direction direction : DIRECTIONS) {
+				BlockPos neighbourPos = pos.offset(direction);
+				if (brokenBlocks.contains(neighbourPos)) {
+					continue;
+				}
+				BlockState neighbourState = world.getBlockState(neighbourPos);
+				Block.replaceBlock(neighbourState, neighbourState.getStateForNeighborUpdate(direction.getOpposite(), air, world, neighbourPos, pos), world, neighbourPos, 3);
+				world.updateNeighbor(neighbourPos, Blocks.AIR, pos);
 			}
 		}
-		blockState.getBlock().afterBreak(world, (PlayerEntity) entityLiving, pos, blockState, world.getBlockEntity(pos), tool);
-		world.setBlockState(pos, Blocks.AIR.getDefaultState());
-		world.removeBlockEntity(pos);
 	}
 
 	/**
-	 *  Fills in set of BlockPos which should be broken by AOE mining
+	 *  Returns the list of positions which should be broken by AOE mining
 	 * @param worldIn World reference
 	 * @param pos BlockPos Position of originally broken block
+	 * @param blockState BlockState State of originally broken block, its shape is used to find the face that was hit. Full cube if null
 	 * @param entityLiving LivingEntity Player who broke block
 	 * @param radius int Radius of additional blocks to include. E.g. for 3x3 mining radius will be 1
-	 * @return Set of BlockPos to process by tool block break logic
+	 * @return List of BlockPos to process by tool block break logic
 	 */
-	public static Set<BlockPos> getAOEMiningBlocks(World worldIn, BlockPos pos, @Nullable LivingEntity entityLiving, int radius) {
+	public static List<BlockPos> getAOEMiningBlocks(World worldIn, BlockPos pos, @Nullable BlockState blockState, @Nullable LivingEntity entityLiving, int radius) {
 		if (!(entityLiving instanceof PlayerEntity)) {
-			return ImmutableSet.of();
+			return Collections.emptyList();
 		}
-		Set<BlockPos> targetBlocks = new HashSet<>();
 		PlayerEntity playerIn = (PlayerEntity) entityLiving;
 
-		//Put a dirt block down to raytrace with to stop it raytracing past the intended block
-		worldIn.setBlockState(pos, Blocks.DIRT.getDefaultState());
-		HitResult hitResult = playerIn.rayTrace(20D, 0F, false);
-		worldIn.setBlockState(pos, Blocks.AIR.getDefaultState());
+		Direction direction = getHitSide(worldIn, pos, blockState, playerIn);
+		BlockPos[] pattern = getAOEPattern(direction, playerIn.getHorizontalFacing(), radius);
+
+		List<BlockPos> targetBlocks = new ArrayList<>(pattern.length);
+		for (BlockPos offset : pattern) {
+			targetBlocks.add(pos.add(offset));
+		}
+		return targetBlocks;
+	}
+
+	/**
+	 * Works out which face of the block the player was looking at from the player's look vector
+	 * and the block's shape. The block has usually already been removed from the world at this point.
+	 */
+	private static Direction getHitSide(World world, BlockPos pos, @Nullable BlockState blockState, PlayerEntity player) {
+		Vec3d start = player.getCameraPosVec(1.0F);
+		Vec3d look = player.getRotationVec(1.0F);
+		Vec3d end = start.add(look.x * 20D, look.y * 20D, look.z * 20D);
+
+		VoxelShape shape = blockState == null ? VoxelShapes.fullCube() : blockState.getOutlineShape(world, pos);
+		if (shape.isEmpty()) {
+			shape = VoxelShapes.fullCube();
+		}
+
+		BlockHitResult hitResult = shape.rayTrace(start, end, pos);
+		if (hitResult != null) {
+			return hitResult.getSide();
+		}
+
+		// The look vector no longer touches the block, fall back to the face pointing back along the dominant look axis
+		double absX = Math.abs(look.x);
+		double absY = Math.abs(look.y);
+		double absZ = Math.abs(look.z);
+		if (absY >= absX && absY >= absZ) {
+			return look.y > 0 ? Direction.DOWN : Direction.UP;
+		}
+		if (absX >= absZ) {
+			return look.x > 0 ? Direction.WEST : Direction.EAST;
+		}
+		return look.z > 0 ? Direction.NORTH : Direction.SOUTH;
+	}
 
-		if (!(hitResult instanceof BlockHitResult)) {
-			return Collections.emptySet();
+	private static BlockPos[] getAOEPattern(Direction direction, Direction playerDirection, int radius) {
+		int patternId;
+		switch (direction.getAxis()) {
+			case Z:
+				patternId = 0;
+				break;
+			case X:
+				patternId = 1;
+				break;
+			default:
+				// Looking at the top or bottom the pattern extends in the direction the player is facing
+				patternId = 2 + playerDirection.getHorizontal();
+				break;
 		}
-		Direction direction = ((BlockHitResult) hitResult).getSide();
+		return AOE_PATTERNS.computeIfAbsent(radius * 8 + patternId, key -> createAOEPattern(direction, playerDirection, radius));
+	}
+
+	private static BlockPos[] createAOEPattern(Direction direction, Direction playerDirection, int radius) {
+		List<BlockPos> offsets = new ArrayList<>();
 
 		if (direction == Direction.SOUTH || direction == Direction.NORTH) {
 			for (int x = -radius; x <= radius; x++) {
 				for (int y = -1; y <= 1 + (radius - 1) * 2; y++) {
-					targetBlocks.add(pos.add(x, y, 0));
+					offsets.add(new BlockPos(x, y, 0));
 				}
 			}
 		} else if (direction == Direction.EAST || direction == Direction.WEST) {
 			for (int z = -radius; z <= radius; z++) {
 				for (int y = -1; y <= 1 + (radius - 1) * 2; y++) {
-					targetBlocks.add(pos.add(0, y, z));
+					offsets.add(new BlockPos(0, y, z));
 				}
 			}
 		} else if (direction == Direction.DOWN || direction == Direction.UP) {
-			Direction playerDirection = playerIn.getHorizontalFacing();
 			int minX = 0;
 			int maxX = 0;
 			int minZ = 0;
@@ -141,10 +260,10 @@ public class ToolsUtil {
 			}
 			for (int x = minX; x <= maxX; x++) {
 				for (int z = minZ; z <= maxZ; z++) {
-					targetBlocks.add(pos.add(x, 0, z));
+					offsets.add(new BlockPos(x, 0, z));
 				}
 			}
 		}
-		return targetBlocks;
+		return offsets.toArray(new BlockPos[0]);
 	}
 }
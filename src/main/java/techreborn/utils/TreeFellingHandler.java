@@ -0,0 +1,191 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.utils;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.event.world.WorldTickCallback;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tag.BlockTags;
+import net.minecraft.tag.Tag;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+import techreborn.config.TechRebornConfig;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Fells whole trees for the industrial chainsaw. The tree is found with a breadth first search
+ * and then broken over the following ticks, a limited amount of blocks per tick.
+ */
+public final class TreeFellingHandler implements WorldTickCallback {
+
+	private static final Direction[] SEARCH_ORDER = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST, Direction.UP};
+
+	private static final Map<World, List<FellingJob>> JOBS = new WeakHashMap<>();
+
+	private TreeFellingHandler() {
+	}
+
+	public static void setup() {
+		WorldTickCallback.EVENT.register(new TreeFellingHandler());
+	}
+
+	/**
+	 * Finds the tree connected to the given position and starts breaking it. The first blocks are broken
+	 * straight away, the rest over the following ticks.
+	 */
+	public static void fellTree(ItemStack tool, World world, BlockPos origin, PlayerEntity player, int cost) {
+		if (world.isClient) {
+			return;
+		}
+		List<BlockPos> wood = new ArrayList<>();
+		List<BlockPos> leaves = new ArrayList<>();
+		findTree(world, origin, wood, leaves);
+		if (wood.isEmpty() && leaves.isEmpty()) {
+			return;
+		}
+
+		FellingJob job = new FellingJob(tool, player, cost, wood, leaves);
+		if (job.breakNext(world)) {
+			JOBS.computeIfAbsent(world, w -> new ArrayList<>()).add(job);
+		}
+	}
+
+	/**
+	 * Breadth first search for logs and leaves connected to the origin, not including the origin itself.
+	 * Leaves are searched as well so that branches only connected through leaves are found.
+	 */
+	public static void findTree(World world, BlockPos origin, List<BlockPos> wood, List<BlockPos> leaves) {
+		LongSet visited = new LongOpenHashSet();
+		Deque<BlockPos> queue = new ArrayDeque<>();
+		visited.add(origin.asLong());
+		queue.add(origin);
+
+		while (!queue.isEmpty()) {
+			BlockPos pos = queue.poll();
+			for (Direction facing : SEARCH_ORDER) {
+				BlockPos checkPos = pos.offset(facing);
+				if (!visited.add(checkPos.asLong())) {
+					continue;
+				}
+				Block block = world.getBlockState(checkPos).getBlock();
+				if (TagUtils.hasTag(block, BlockTags.LOGS)) {
+					if (wood.size() < TechRebornConfig.industrialChainsawMaxLogs) {
+						wood.add(checkPos);
+						queue.add(checkPos);
+					}
+				} else if (TagUtils.hasTag(block, BlockTags.LEAVES)) {
+					if (leaves.size() < TechRebornConfig.industrialChainsawMaxLeaves) {
+						leaves.add(checkPos);
+						queue.add(checkPos);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void tick(World world) {
+		if (world.isClient) {
+			return;
+		}
+		List<FellingJob> jobs = JOBS.get(world);
+		if (jobs == null || jobs.isEmpty()) {
+			return;
+		}
+		jobs.removeIf(job -> !job.breakNext(world));
+	}
+
+	private static class FellingJob {
+		private final ItemStack tool;
+		private final PlayerEntity player;
+		private final int cost;
+		private final Iterator<BlockPos> wood;
+		private final Iterator<BlockPos> leaves;
+
+		FellingJob(ItemStack tool, PlayerEntity player, int cost, List<BlockPos> wood, List<BlockPos> leaves) {
+			this.tool = tool;
+			this.player = player;
+			this.cost = cost;
+			this.wood = wood.iterator();
+			this.leaves = leaves.iterator();
+		}
+
+		/**
+		 * Breaks the next batch of blocks.
+		 *
+		 * @return true if there are blocks left to break
+		 */
+		boolean breakNext(World world) {
+			// Stop once the player let go of the chainsaw, died or left the world
+			if (player.removed || !player.isAlive() || player.world != world || player.getMainHandStack() != tool) {
+				return false;
+			}
+			int budget = TechRebornConfig.industrialChainsawBlocksPerTick;
+
+			// Blocks may have changed since the tree was searched
+			List<BlockPos> woodBatch = new ArrayList<>();
+			while (budget > 0 && wood.hasNext()) {
+				BlockPos pos = wood.next();
+				if (isStill(world, pos, BlockTags.LOGS)) {
+					woodBatch.add(pos);
+					budget--;
+				}
+			}
+			List<BlockPos> leafBatch = new ArrayList<>();
+			while (budget > 0 && leaves.hasNext()) {
+				BlockPos pos = leaves.next();
+				if (isStill(world, pos, BlockTags.LEAVES)) {
+					leafBatch.add(pos);
+					budget--;
+				}
+			}
+
+			ToolsUtil.breakBlocks(tool, world, woodBatch, player, cost);
+			ToolsUtil.breakBlocks(tool, world, leafBatch, player, 0);
+			return wood.hasNext() || leaves.hasNext();
+		}
+
+		private static boolean isStill(World world, BlockPos pos, Tag<Block> tag) {
+			// Don't load chunks again for a tree the player walked away from
+			if (!world.isRegionLoaded(pos, pos)) {
+				return false;
+			}
+			BlockState state = world.getBlockState(pos);
+			return TagUtils.hasTag(state.getBlock(), tag);
+		}
+	}
+}
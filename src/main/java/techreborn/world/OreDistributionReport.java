@@ -0,0 +1,153 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.ChunkSection;
+import techreborn.init.TRContent;
+import techreborn.world.TROreFeatureConfig.OreVein;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Runs the TechReborn ore pass over a synthetic chunk of solid stone, netherrack and end stone to report how
+ * many ores each vein config places, at which heights, and how long the pass takes per chunk.
+ */
+public class OreDistributionReport {
+
+	// The planned chunk sits in the middle, veins may spill into the chunks around it
+	private static final int COLUMNS = 3;
+	private static final int SECTIONS = 16;
+
+	public static List<String> run(int chunks, long seed) {
+		List<String> lines = new ArrayList<>();
+		report(lines, "Overworld", WorldGenerator.getOverworldOres(), Blocks.STONE.getDefaultState(), chunks, seed);
+		report(lines, "Nether", WorldGenerator.getNetherOres(), Blocks.NETHERRACK.getDefaultState(), chunks, seed);
+		report(lines, "End", WorldGenerator.getEndOres(), Blocks.END_STONE.getDefaultState(), chunks, seed);
+		return lines;
+	}
+
+	private static void report(List<String> lines, String name, TROreFeatureConfig config, BlockState filler, int chunks, long seed) {
+		List<OreVein> ores = config.getOres();
+		if (ores.isEmpty()) {
+			lines.add(name + ": no ores enabled");
+			return;
+		}
+
+		ChunkSection[][] columns = createSyntheticChunk(filler);
+		OreVeinPlan.SectionProvider sections = (sectionX, sectionY, sectionZ) -> {
+			if (sectionX < -1 || sectionX > 1 || sectionZ < -1 || sectionZ > 1) {
+				return null;
+			}
+			return columns[(sectionX + 1) * COLUMNS + sectionZ + 1][sectionY];
+		};
+
+		Map<TRContent.Ores, int[]> heightBands = new EnumMap<>(TRContent.Ores.class);
+		Map<TRContent.Ores, Long> placedCounts = new EnumMap<>(TRContent.Ores.class);
+		long totalNanos = 0;
+		long totalPlaced = 0;
+
+		for (int i = 0; i < chunks; i++) {
+			Random random = new Random(seed + i);
+			long start = System.nanoTime();
+			OreVeinPlan plan = TROreFeature.planChunk(ores, random, 0, 0, (x, z) -> 255);
+			totalPlaced += plan.place(sections);
+			totalNanos += System.nanoTime() - start;
+
+			// Tally what ended up in the chunk, then restore the filler for the next run
+			for (Long2ObjectMap.Entry<OreVein> entry : plan.getPlanned().long2ObjectEntrySet()) {
+				long pos = entry.getLongKey();
+				int y = BlockPos.unpackLongY(pos);
+				if (y < 0 || y >= SECTIONS * 16) {
+					continue;
+				}
+				ChunkSection section = sections.getSection(BlockPos.unpackLongX(pos) >> 4, y >> 4, BlockPos.unpackLongZ(pos) >> 4);
+				if (section == null) {
+					continue;
+				}
+				int x = BlockPos.unpackLongX(pos) & 15;
+				int z = BlockPos.unpackLongZ(pos) & 15;
+				if (section.getBlockState(x, y & 15, z) != entry.getValue().state) {
+					continue;
+				}
+				TRContent.Ores ore = entry.getValue().ore;
+				placedCounts.merge(ore, 1L, Long::sum);
+				heightBands.computeIfAbsent(ore, o -> new int[SECTIONS])[y >> 4]++;
+				section.setBlockState(x, y & 15, z, filler);
+			}
+		}
+
+		lines.add(String.format(Locale.ROOT, "%s: %d chunks, %.1f ores per chunk, %.1f us per chunk",
+			name, chunks, (double) totalPlaced / chunks, totalNanos / 1000.0D / chunks));
+		for (OreVein vein : ores) {
+			long placed = placedCounts.getOrDefault(vein.ore, 0L);
+			lines.add(String.format(Locale.ROOT, "  %s: %.1f per chunk (%d veins of %d, y %d-%d), by height %s",
+				vein.ore.name, (double) placed / chunks, vein.veinsPerChunk, vein.veinSize, vein.minY, vein.maxY, formatBands(heightBands.get(vein.ore))));
+		}
+	}
+
+	private static ChunkSection[][] createSyntheticChunk(BlockState filler) {
+		ChunkSection[][] columns = new ChunkSection[COLUMNS * COLUMNS][SECTIONS];
+		for (ChunkSection[] column : columns) {
+			for (int sectionY = 0; sectionY < SECTIONS; sectionY++) {
+				ChunkSection section = new ChunkSection(sectionY << 4);
+				for (int x = 0; x < 16; x++) {
+					for (int y = 0; y < 16; y++) {
+						for (int z = 0; z < 16; z++) {
+							section.setBlockState(x, y, z, filler);
+						}
+					}
+				}
+				column[sectionY] = section;
+			}
+		}
+		return columns;
+	}
+
+	private static String formatBands(int[] bands) {
+		if (bands == null) {
+			return "none";
+		}
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < bands.length; i++) {
+			if (bands[i] == 0) {
+				continue;
+			}
+			if (builder.length() > 0) {
+				builder.append(", ");
+			}
+			builder.append(i * 16).append('-').append(i * 16 + 15).append(": ").append(bands[i]);
+		}
+		return builder.toString();
+	}
+}
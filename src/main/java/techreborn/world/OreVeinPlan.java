@@ -0,0 +1,229 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.chunk.ChunkSection;
+import techreborn.world.TROreFeatureConfig.OreVein;
+
+import javax.annotation.Nullable;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Collects the blocks of every ore vein in a chunk first and then writes them section by section, instead of
+ * each vein setting its blocks one at a time through the world. Vein shapes follow the vanilla ore feature.
+ */
+public class OreVeinPlan {
+
+	// The first vein to claim a position keeps it, like the target check does when veins are placed in order
+	private final Long2ObjectOpenHashMap<OreVein> planned = new Long2ObjectOpenHashMap<>();
+
+	/**
+	 * Plans a vein centred around the given position.
+	 *
+	 * @param surfaceHeight ocean floor height of a column, veins entirely above the surface are skipped
+	 */
+	public void addVein(OreVein vein, Random random, int x, int y, int z, IntBinaryOperator surfaceHeight) {
+		float angle = random.nextFloat() * (float) Math.PI;
+		float spread = (float) vein.veinSize / 8.0F;
+		int radius = MathHelper.ceil(((float) vein.veinSize / 16.0F * 2.0F + 1.0F) / 2.0F);
+		double startX = (float) x + MathHelper.sin(angle) * spread;
+		double endX = (float) x - MathHelper.sin(angle) * spread;
+		double startZ = (float) z + MathHelper.cos(angle) * spread;
+		double endZ = (float) z - MathHelper.cos(angle) * spread;
+		double startY = y + random.nextInt(3) - 2;
+		double endY = y + random.nextInt(3) - 2;
+		int minX = x - MathHelper.ceil(spread) - radius;
+		int minY = y - 2 - radius;
+		int minZ = z - MathHelper.ceil(spread) - radius;
+		int width = 2 * (MathHelper.ceil(spread) + radius);
+		int height = 2 * (2 + radius);
+
+		for (int columnX = minX; columnX <= minX + width; columnX++) {
+			for (int columnZ = minZ; columnZ <= minZ + width; columnZ++) {
+				if (minY <= surfaceHeight.applyAsInt(columnX, columnZ)) {
+					addVeinBlocks(vein, random, startX, endX, startZ, endZ, startY, endY, minX, minY, minZ, width, height);
+					return;
+				}
+			}
+		}
+	}
+
+	private void addVeinBlocks(OreVein vein, Random random, double startX, double endX, double startZ, double endZ, double startY, double endY, int minX, int minY, int minZ, int width, int height) {
+		int size = vein.veinSize;
+		BitSet visited = new BitSet(width * height * width);
+		double[] blobs = new double[size * 4];
+
+		for (int i = 0; i < size; i++) {
+			float progress = (float) i / (float) size;
+			double blobRadius = random.nextDouble() * size / 16.0D;
+			blobs[i * 4] = MathHelper.lerp(progress, startX, endX);
+			blobs[i * 4 + 1] = MathHelper.lerp(progress, startY, endY);
+			blobs[i * 4 + 2] = MathHelper.lerp(progress, startZ, endZ);
+			blobs[i * 4 + 3] = ((MathHelper.sin((float) Math.PI * progress) + 1.0F) * blobRadius + 1.0D) / 2.0D;
+		}
+
+		// Drop blobs that sit entirely inside another one
+		for (int i = 0; i < size - 1; i++) {
+			if (blobs[i * 4 + 3] <= 0.0D) {
+				continue;
+			}
+			for (int j = i + 1; j < size; j++) {
+				if (blobs[j * 4 + 3] <= 0.0D) {
+					continue;
+				}
+				double dx = blobs[i * 4] - blobs[j * 4];
+				double dy = blobs[i * 4 + 1] - blobs[j * 4 + 1];
+				double dz = blobs[i * 4 + 2] - blobs[j * 4 + 2];
+				double dr = blobs[i * 4 + 3] - blobs[j * 4 + 3];
+				if (dr * dr > dx * dx + dy * dy + dz * dz) {
+					if (dr > 0.0D) {
+						blobs[j * 4 + 3] = -1.0D;
+					} else {
+						blobs[i * 4 + 3] = -1.0D;
+					}
+				}
+			}
+		}
+
+		for (int i = 0; i < size; i++) {
+			double blobRadius = blobs[i * 4 + 3];
+			if (blobRadius < 0.0D) {
+				continue;
+			}
+			double centerX = blobs[i * 4];
+			double centerY = blobs[i * 4 + 1];
+			double centerZ = blobs[i * 4 + 2];
+			int fromX = Math.max(MathHelper.floor(centerX - blobRadius), minX);
+			int fromY = Math.max(MathHelper.floor(centerY - blobRadius), minY);
+			int fromZ = Math.max(MathHelper.floor(centerZ - blobRadius), minZ);
+			int toX = Math.max(MathHelper.floor(centerX + blobRadius), fromX);
+			int toY = Math.max(MathHelper.floor(centerY + blobRadius), fromY);
+			int toZ = Math.max(MathHelper.floor(centerZ + blobRadius), fromZ);
+
+			for (int blockX = fromX; blockX <= toX; blockX++) {
+				double nx = ((double) blockX + 0.5D - centerX) / blobRadius;
+				if (nx * nx >= 1.0D) {
+					continue;
+				}
+				for (int blockY = fromY; blockY <= toY; blockY++) {
+					double ny = ((double) blockY + 0.5D - centerY) / blobRadius;
+					if (nx * nx + ny * ny >= 1.0D) {
+						continue;
+					}
+					for (int blockZ = fromZ; blockZ <= toZ; blockZ++) {
+						double nz = ((double) blockZ + 0.5D - centerZ) / blobRadius;
+						if (nx * nx + ny * ny + nz * nz >= 1.0D) {
+							continue;
+						}
+						int index = blockX - minX + (blockY - minY) * width + (blockZ - minZ) * width * height;
+						if (visited.get(index)) {
+							continue;
+						}
+						visited.set(index);
+						planned.putIfAbsent(BlockPos.asLong(blockX, blockY, blockZ), vein);
+					}
+				}
+			}
+		}
+	}
+
+	public int size() {
+		return planned.size();
+	}
+
+	public boolean isEmpty() {
+		return planned.isEmpty();
+	}
+
+	/**
+	 * Writes the planned blocks straight into the chunk sections, one section at a time. Blocks are written
+	 * without light or heightmap updates, which is fine for ores replacing solid, non emissive blocks.
+	 *
+	 * @return the number of blocks placed
+	 */
+	public int place(SectionProvider sections) {
+		Long2ObjectOpenHashMap<LongArrayList> bySection = new Long2ObjectOpenHashMap<>();
+		LongIterator iterator = planned.keySet().iterator();
+		while (iterator.hasNext()) {
+			long pos = iterator.nextLong();
+			long sectionKey = BlockPos.asLong(BlockPos.unpackLongX(pos) >> 4, BlockPos.unpackLongY(pos) >> 4, BlockPos.unpackLongZ(pos) >> 4);
+			LongArrayList positions = bySection.get(sectionKey);
+			if (positions == null) {
+				positions = new LongArrayList();
+				bySection.put(sectionKey, positions);
+			}
+			positions.add(pos);
+		}
+
+		int placed = 0;
+		for (Long2ObjectMap.Entry<LongArrayList> entry : bySection.long2ObjectEntrySet()) {
+			long sectionKey = entry.getLongKey();
+			int sectionY = BlockPos.unpackLongY(sectionKey);
+			if (sectionY < 0 || sectionY >= 16) {
+				continue;
+			}
+			ChunkSection section = sections.getSection(BlockPos.unpackLongX(sectionKey), sectionY, BlockPos.unpackLongZ(sectionKey));
+			if (section == null || section.isEmpty()) {
+				continue;
+			}
+			LongArrayList positions = entry.getValue();
+			for (int i = 0; i < positions.size(); i++) {
+				long pos = positions.getLong(i);
+				OreVein vein = planned.get(pos);
+				int x = BlockPos.unpackLongX(pos) & 15;
+				int y = BlockPos.unpackLongY(pos) & 15;
+				int z = BlockPos.unpackLongZ(pos) & 15;
+				BlockState current = section.getBlockState(x, y, z);
+				if (vein.target.test(current)) {
+					section.setBlockState(x, y, z, vein.state);
+					placed++;
+				}
+			}
+		}
+		return placed;
+	}
+
+	/**
+	 * Iterates the planned blocks, used to undo placements in the synthetic chunk of {@link OreDistributionReport}.
+	 */
+	public Long2ObjectMap<OreVein> getPlanned() {
+		return planned;
+	}
+
+	@FunctionalInterface
+	public interface SectionProvider {
+		@Nullable
+		ChunkSection getSection(int sectionX, int sectionY, int sectionZ);
+	}
+}
@@ -25,54 +25,248 @@
 package techreborn.world;
 
 import com.mojang.datafixers.Dynamic;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
-import net.minecraft.util.math.BlockBox;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.LeavesBlock;
+import net.minecraft.block.Material;
+import net.minecraft.tag.BlockTags;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.ModifiableTestableWorld;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.ChunkRegion;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.ChunkGeneratorConfig;
 import net.minecraft.world.gen.feature.BranchedTreeFeatureConfig;
-import net.minecraft.world.gen.feature.OakTreeFeature;
+import net.minecraft.world.gen.feature.Feature;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
-import java.util.Set;
 import java.util.function.Function;
 
 /**
  * @author drcrazy
  *
+ * Places rubber trees from a small set of shapes built once at startup. A tree is checked and placed through
+ * the chunks it covers, which are looked up once per tree, rather than block by block through the world.
+ * The shape and sap logs are picked from the feature random, so trees stay deterministic for a world seed.
  */
-public class RubberTreeFeature extends OakTreeFeature {
+public class RubberTreeFeature extends Feature<BranchedTreeFeatureConfig> {
+
+	// Matches heightRandA of the rubber tree config
+	private static final int HEIGHT_VARIANTS = 3;
+	private static final int FOLIAGE_VARIANTS = 4;
+
+	private final TreeTemplate[] templates;
 
 	public RubberTreeFeature(Function<Dynamic<?>, ? extends BranchedTreeFeatureConfig> configFactory) {
 		super(configFactory);
+		templates = new TreeTemplate[HEIGHT_VARIANTS * FOLIAGE_VARIANTS];
+		for (int height = 0; height < HEIGHT_VARIANTS; height++) {
+			for (int foliage = 0; foliage < FOLIAGE_VARIANTS; foliage++) {
+				// Fixed seeds, the same shapes are built on every start
+				templates[height * FOLIAGE_VARIANTS + foliage] = new TreeTemplate(TechRebornConfig.RubberTreeBaseHeight + height, TechRebornConfig.RubberTreeSpireHeight, new Random(height * FOLIAGE_VARIANTS + foliage));
+			}
+		}
 	}
 
 	@Override
-	public boolean generate(ModifiableTestableWorld world, Random random, BlockPos blockPos, Set<BlockPos> set, Set<BlockPos> set2, BlockBox blockBox, BranchedTreeFeatureConfig branchedTreeFeatureConfig) {
-		if(super.generate(world, random, blockPos, set, set2, blockBox, branchedTreeFeatureConfig)) {
-			spawnSpike(world, blockPos);
-			return true;
+	public boolean generate(IWorld world, ChunkGenerator<? extends ChunkGeneratorConfig> generator, Random random, BlockPos pos, BranchedTreeFeatureConfig config) {
+		TreeTemplate template = templates[random.nextInt(templates.length)];
+		if (pos.getY() < 1 || pos.getY() + template.totalHeight >= world.getHeight()) {
+			return false;
+		}
+
+		TreeAccess access = new TreeAccess(world, pos);
+		BlockPos.Mutable mutable = new BlockPos.Mutable();
+		BlockPos soilPos = pos.down();
+		if (!isSoil(access.getBlockState(soilPos).getBlock())) {
+			return false;
+		}
+		for (long offset : template.logs) {
+			if (!canReplace(access.getBlockState(offset(mutable, pos, offset)))) {
+				return false;
+			}
+		}
+		for (long offset : template.leaves) {
+			if (!canReplace(access.getBlockState(offset(mutable, pos, offset)))) {
+				return false;
+			}
+		}
+
+		if (access.getBlockState(soilPos).getBlock() != Blocks.DIRT) {
+			access.setBlockState(soilPos, Blocks.DIRT.getDefaultState());
 		}
-		return false;
+		for (long offset : template.logs) {
+			offset(mutable, pos, offset);
+			access.setBlockState(mutable, config.trunkProvider.getBlockState(random, mutable));
+		}
+		for (int i = 0; i < template.leaves.length; i++) {
+			offset(mutable, pos, template.leaves[i]);
+			access.setBlockState(mutable, withDistance(config.leavesProvider.getBlockState(random, mutable), template.leafDistances[i]));
+		}
+		for (int i = 0; i < template.spire.length; i++) {
+			offset(mutable, pos, template.spire[i]);
+			if (access.getBlockState(mutable).isAir()) {
+				access.setBlockState(mutable, withDistance(TRContent.RUBBER_LEAVES.getDefaultState(), template.spireDistances[i]));
+			}
+		}
+		return true;
+	}
+
+	private static BlockPos.Mutable offset(BlockPos.Mutable mutable, BlockPos origin, long offset) {
+		return mutable.set(origin.getX() + BlockPos.unpackLongX(offset), origin.getY() + BlockPos.unpackLongY(offset), origin.getZ() + BlockPos.unpackLongZ(offset));
+	}
+
+	private static BlockState withDistance(BlockState state, int distance) {
+		return state.contains(LeavesBlock.DISTANCE) ? state.with(LeavesBlock.DISTANCE, distance) : state;
+	}
+
+	private static boolean isSoil(Block block) {
+		return block == Blocks.GRASS_BLOCK || block == Blocks.DIRT || block == Blocks.COARSE_DIRT || block == Blocks.PODZOL;
+	}
+
+	private static boolean canReplace(BlockState state) {
+		Material material = state.getMaterial();
+		return state.isAir() || state.matches(BlockTags.LEAVES) || material == Material.REPLACEABLE_PLANT || material == Material.PLANT;
 	}
 
-	private void spawnSpike(ModifiableTestableWorld world, BlockPos pos) {
-		final int startScan = pos.getY();
-		BlockPos topPos = null;
+	/**
+	 * Block access for a single tree. During world generation blocks are read and written through the chunks
+	 * directly, which are fetched once per tree. Saplings growing in a loaded world go through the world so
+	 * clients and lighting get updated.
+	 */
+	private static class TreeAccess {
+		private final IWorld world;
+		private final boolean direct;
+		private final int minChunkX;
+		private final int minChunkZ;
+		// A tree is at most 5 blocks wide, so it covers at most 2x2 chunks
+		private final Chunk[] chunks = new Chunk[4];
 
-		//Limit the scan to 15 blocks
-		while(topPos == null && pos.getY() - startScan < 15) {
-			pos = pos.up();
-			if(world.testBlockState(pos, BlockState::isAir)) {
-				topPos = pos;
+		private TreeAccess(IWorld world, BlockPos origin) {
+			this.world = world;
+			this.direct = world instanceof ChunkRegion;
+			this.minChunkX = (origin.getX() - TreeTemplate.RADIUS) >> 4;
+			this.minChunkZ = (origin.getZ() - TreeTemplate.RADIUS) >> 4;
+		}
+
+		private Chunk getChunk(BlockPos pos) {
+			int index = ((pos.getX() >> 4) - minChunkX) * 2 + ((pos.getZ() >> 4) - minChunkZ);
+			Chunk chunk = chunks[index];
+			if (chunk == null) {
+				chunk = world.getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+				chunks[index] = chunk;
+			}
+			return chunk;
+		}
+
+		private BlockState getBlockState(BlockPos pos) {
+			return getChunk(pos).getBlockState(pos);
+		}
+
+		private void setBlockState(BlockPos pos, BlockState state) {
+			if (direct) {
+				getChunk(pos).setBlockState(pos, state, false);
+			} else {
+				world.setBlockState(pos, state, 19);
 			}
 		}
+	}
+
+	/**
+	 * Relative block positions of one tree shape. Logs start at the origin, leaves carry their distance to the
+	 * nearest log so they don't need updating after placement.
+	 */
+	private static class TreeTemplate {
+		private static final int RADIUS = 2;
 
-		if(topPos == null) return;
+		private final long[] logs;
+		private final long[] leaves;
+		private final int[] leafDistances;
+		private final long[] spire;
+		private final int[] spireDistances;
+		private final int totalHeight;
 
-		for (int i = 0; i < TechRebornConfig.RubberTreeSpireHeight; i++) {
-			setBlockState(world, pos.up(i), TRContent.RUBBER_LEAVES.getDefaultState());
+		private TreeTemplate(int height, int spireHeight, Random random) {
+			List<Long> logList = new ArrayList<>();
+			for (int y = 0; y < height; y++) {
+				logList.add(BlockPos.asLong(0, y, 0));
+			}
+
+			// Oak style blob foliage, the four layers at the top of the trunk with random corners left out
+			List<Long> leafList = new ArrayList<>();
+			for (int y = height - 3; y <= height; y++) {
+				int layer = y - height;
+				int radius = 1 - layer / 2;
+				for (int x = -radius; x <= radius; x++) {
+					for (int z = -radius; z <= radius; z++) {
+						if (Math.abs(x) == radius && Math.abs(z) == radius && (random.nextInt(2) == 0 || layer == 0)) {
+							continue;
+						}
+						if (x == 0 && z == 0 && y < height) {
+							continue;
+						}
+						leafList.add(BlockPos.asLong(x, y, z));
+					}
+				}
+			}
+
+			List<Long> spireList = new ArrayList<>();
+			for (int y = height + 1; y <= height + spireHeight; y++) {
+				spireList.add(BlockPos.asLong(0, y, 0));
+			}
+
+			Long2IntOpenHashMap distances = computeLeafDistances(logList, leafList, spireList);
+			logs = logList.stream().mapToLong(Long::longValue).toArray();
+			leaves = leafList.stream().mapToLong(Long::longValue).toArray();
+			leafDistances = leafList.stream().mapToInt(distances::get).toArray();
+			spire = spireList.stream().mapToLong(Long::longValue).toArray();
+			spireDistances = spireList.stream().mapToInt(distances::get).toArray();
+			totalHeight = height + spireHeight + 1;
+		}
+
+		// Breadth first from the logs through the leaves, the same distance leaves work out when ticked
+		private static Long2IntOpenHashMap computeLeafDistances(List<Long> logs, List<Long> leaves, List<Long> spire) {
+			Long2IntOpenHashMap distances = new Long2IntOpenHashMap();
+			distances.defaultReturnValue(7);
+			for (long leaf : leaves) {
+				distances.put(leaf, 7);
+			}
+			for (long leaf : spire) {
+				distances.put(leaf, 7);
+			}
+
+			LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+			for (long log : logs) {
+				queue.enqueue(log);
+			}
+			Long2IntOpenHashMap steps = new Long2IntOpenHashMap();
+			for (long log : logs) {
+				steps.put(log, 0);
+			}
+			while (!queue.isEmpty()) {
+				long pos = queue.dequeueLong();
+				int distance = steps.get(pos) + 1;
+				if (distance >= 7) {
+					continue;
+				}
+				for (Direction direction : Direction.values()) {
+					long next = BlockPos.offset(pos, direction);
+					if (distances.containsKey(next) && distances.get(next) > distance) {
+						distances.put(next, distance);
+						steps.put(next, distance);
+						queue.enqueue(next);
+					}
+				}
+			}
+			return distances;
 		}
 	}
 }
@@ -0,0 +1,76 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.world;
+
+import com.mojang.datafixers.Dynamic;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.ChunkGeneratorConfig;
+import net.minecraft.world.gen.feature.Feature;
+import techreborn.world.TROreFeatureConfig.OreVein;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Generates all TechReborn ores of a biome in a single pass per chunk. Vein positions are rolled the same way
+ * as the count range decorator does for a single ore.
+ */
+public class TROreFeature extends Feature<TROreFeatureConfig> {
+
+	public TROreFeature(Function<Dynamic<?>, ? extends TROreFeatureConfig> configFactory) {
+		super(configFactory);
+	}
+
+	@Override
+	public boolean generate(IWorld world, ChunkGenerator<? extends ChunkGeneratorConfig> generator, Random random, BlockPos pos, TROreFeatureConfig config) {
+		OreVeinPlan plan = planChunk(config.getOres(), random, pos.getX(), pos.getZ(), (x, z) -> world.getTopY(Heightmap.Type.OCEAN_FLOOR_WG, x, z));
+		if (plan.isEmpty()) {
+			return false;
+		}
+		return plan.place((sectionX, sectionY, sectionZ) -> {
+			ChunkSection[] sections = world.getChunk(sectionX, sectionZ).getSectionArray();
+			return sections[sectionY];
+		}) > 0;
+	}
+
+	public static OreVeinPlan planChunk(List<OreVein> ores, Random random, int chunkStartX, int chunkStartZ, IntBinaryOperator surfaceHeight) {
+		OreVeinPlan plan = new OreVeinPlan();
+		for (OreVein vein : ores) {
+			for (int i = 0; i < vein.veinsPerChunk; i++) {
+				int x = chunkStartX + random.nextInt(16);
+				int y = random.nextInt(vein.maxY - vein.minY) + vein.minY;
+				int z = chunkStartZ + random.nextInt(16);
+				plan.addVein(vein, random, x, y, z, surfaceHeight);
+			}
+		}
+		return plan;
+	}
+}
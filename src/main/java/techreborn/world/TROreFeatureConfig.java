@@ -0,0 +1,86 @@
+/*
+ * This file is part of TechReborn, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) 2020 TechReborn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package techreborn.world;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.mojang.datafixers.Dynamic;
+import com.mojang.datafixers.types.DynamicOps;
+import net.minecraft.block.BlockState;
+import net.minecraft.world.gen.feature.FeatureConfig;
+import techreborn.init.TRContent;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Every TechReborn ore that a biome generates, so {@link TROreFeature} can place them all in one pass per chunk.
+ */
+public class TROreFeatureConfig implements FeatureConfig {
+
+	private final List<OreVein> ores;
+
+	public TROreFeatureConfig(List<OreVein> ores) {
+		this.ores = ImmutableList.copyOf(ores);
+	}
+
+	public List<OreVein> getOres() {
+		return ores;
+	}
+
+	public boolean isEmpty() {
+		return ores.isEmpty();
+	}
+
+	@Override
+	public <T> Dynamic<T> serialize(DynamicOps<T> ops) {
+		// The ore targets are predicates, they can't be written out
+		return new Dynamic<>(ops, ops.createMap(ImmutableMap.of()));
+	}
+
+	public static TROreFeatureConfig deserialize(Dynamic<?> dynamic) {
+		return new TROreFeatureConfig(ImmutableList.of());
+	}
+
+	public static class OreVein {
+		public final TRContent.Ores ore;
+		public final BlockState state;
+		public final Predicate<BlockState> target;
+		public final int veinSize;
+		public final int veinsPerChunk;
+		public final int minY;
+		public final int maxY;
+
+		public OreVein(TRContent.Ores ore, Predicate<BlockState> target, int veinSize, int veinsPerChunk) {
+			this.ore = ore;
+			this.state = ore.block.getDefaultState();
+			this.target = target;
+			this.veinSize = veinSize;
+			this.veinsPerChunk = veinsPerChunk;
+			this.minY = ore.minY;
+			this.maxY = ore.maxY;
+		}
+	}
+}
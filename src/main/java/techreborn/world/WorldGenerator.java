@@ -24,7 +24,9 @@
 
 package techreborn.world;
 
+import com.mojang.datafixers.util.Pair;
 import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Direction;
@@ -34,23 +36,28 @@ import net.minecraft.world.biome.Biome.Category;
 import net.minecraft.world.gen.GenerationStep;
 import net.minecraft.world.gen.decorator.CountExtraChanceDecoratorConfig;
 import net.minecraft.world.gen.decorator.Decorator;
-import net.minecraft.world.gen.decorator.RangeDecoratorConfig;
+import net.minecraft.world.gen.decorator.DecoratorConfig;
 import net.minecraft.world.gen.feature.BranchedTreeFeatureConfig;
+import net.minecraft.world.gen.feature.ConfiguredFeature;
 import net.minecraft.world.gen.feature.Feature;
-import net.minecraft.world.gen.feature.OreFeatureConfig;
 import net.minecraft.world.gen.feature.OreFeatureConfig.Target;
 import net.minecraft.world.gen.foliage.BlobFoliagePlacer;
 import net.minecraft.world.gen.stateprovider.SimpleStateProvider;
 import net.minecraft.world.gen.stateprovider.WeightedStateProvider;
-import reborncore.common.world.CustomOreFeature;
-import reborncore.common.world.CustomOreFeatureConfig;
 import techreborn.blocks.misc.BlockRubberLog;
 import techreborn.config.TechRebornConfig;
 import techreborn.init.TRContent;
+import techreborn.world.TROreFeatureConfig.OreVein;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author drcrazy
@@ -62,10 +69,22 @@ public class WorldGenerator {
 
 	public static BranchedTreeFeatureConfig RUBBER_TREE_CONFIG;
 
-	private static List<Biome> checkedBiomes = new ArrayList<>();
+	public static Feature<TROreFeatureConfig> ORE_FEATURE;
+
+	// Shared by every biome of a dimension
+	private static TROreFeatureConfig overworldOres;
+	private static TROreFeatureConfig netherOres;
+	private static TROreFeatureConfig endOres;
+
+	// Features for each biome category, compiled once so adding them to a biome is a single lookup
+	private static final Map<Category, List<Pair<GenerationStep.Feature, ConfiguredFeature<?, ?>>>> categoryFeatures = new EnumMap<>(Category.class);
+
+	private static final Set<Biome> checkedBiomes = Collections.newSetFromMap(new IdentityHashMap<>());
 
 	public static void initBiomeFeatures() {
 		setupTrees();
+		setupOres();
+		compileCategoryFeatures();
 
 		for (Biome biome : Registry.BIOME) {
 			addToBiome(biome);
@@ -101,85 +120,101 @@ public class WorldGenerator {
 
 	}
 
+	private static void setupOres() {
+		ORE_FEATURE = Registry.register(Registry.FEATURE, new Identifier("techreborn:ores"), new TROreFeature(TROreFeatureConfig::deserialize));
+
+		Predicate<BlockState> netherrack = Target.NETHERRACK.getCondition();
+		List<OreVein> nether = new ArrayList<>();
+		addVein(nether, TechRebornConfig.enableCinnabarOre, TRContent.Ores.CINNABAR, netherrack, TechRebornConfig.cinnabarVeinSize, TechRebornConfig.cinnabarVeinCount);
+		addVein(nether, TechRebornConfig.enablePyriteOre, TRContent.Ores.PYRITE, netherrack, TechRebornConfig.pyriteVeinSize, TechRebornConfig.pyriteVeinCount);
+		addVein(nether, TechRebornConfig.enableSphaleriteOre, TRContent.Ores.SPHALERITE, netherrack, TechRebornConfig.sphaleriteVeinSize, TechRebornConfig.sphaleriteVeinCount);
+		netherOres = new TROreFeatureConfig(nether);
+
+		Predicate<BlockState> endStone = blockState -> blockState.getBlock() == Blocks.END_STONE;
+		List<OreVein> end = new ArrayList<>();
+		addVein(end, TechRebornConfig.enablePeridotOre, TRContent.Ores.PERIDOT, endStone, TechRebornConfig.peridotVeinSize, TechRebornConfig.peridotVeinCount);
+		addVein(end, TechRebornConfig.enableSheldoniteOre, TRContent.Ores.SHELDONITE, endStone, TechRebornConfig.sheldoniteVeinSize, TechRebornConfig.sheldoniteVeinCount);
+		addVein(end, TechRebornConfig.enableSodaliteOre, TRContent.Ores.SODALITE, endStone, TechRebornConfig.sodaliteVeinSize, TechRebornConfig.sodaliteVeinCount);
+		addVein(end, TechRebornConfig.enableTungstenOre, TRContent.Ores.TUNGSTEN, endStone, TechRebornConfig.tungstenVeinSize, TechRebornConfig.tungstenVeinCount);
+		endOres = new TROreFeatureConfig(end);
+
+		Predicate<BlockState> stone = Target.NATURAL_STONE.getCondition();
+		List<OreVein> overworld = new ArrayList<>();
+		addVein(overworld, TechRebornConfig.enableBauxiteOre, TRContent.Ores.BAUXITE, stone, TechRebornConfig.bauxiteVeinSize, TechRebornConfig.bauxiteVeinCount);
+		addVein(overworld, TechRebornConfig.enableCopperOre, TRContent.Ores.COPPER, stone, TechRebornConfig.copperVeinSize, TechRebornConfig.copperVeinCount);
+		addVein(overworld, TechRebornConfig.enableGalenaOre, TRContent.Ores.GALENA, stone, TechRebornConfig.galenaVeinSize, TechRebornConfig.galenaVeinCount);
+		addVein(overworld, TechRebornConfig.enableIridiumOre, TRContent.Ores.IRIDIUM, stone, TechRebornConfig.iridiumVeinSize, TechRebornConfig.iridiumVeinCount);
+		addVein(overworld, TechRebornConfig.enableLeadOre, TRContent.Ores.LEAD, stone, TechRebornConfig.leadVeinSize, TechRebornConfig.leadVeinCount);
+		addVein(overworld, TechRebornConfig.enableRubyOre, TRContent.Ores.RUBY, stone, TechRebornConfig.rubyVeinSize, TechRebornConfig.rubyVeinCount);
+		addVein(overworld, TechRebornConfig.enableSapphireOre, TRContent.Ores.SAPPHIRE, stone, TechRebornConfig.sapphireVeinSize, TechRebornConfig.sapphireVeinCount);
+		addVein(overworld, TechRebornConfig.enableSilverOre, TRContent.Ores.SILVER, stone, TechRebornConfig.silverVeinSize, TechRebornConfig.silverVeinCount);
+		addVein(overworld, TechRebornConfig.enableTinOre, TRContent.Ores.TIN, stone, TechRebornConfig.tinVeinSize, TechRebornConfig.tinVeinCount);
+		overworldOres = new TROreFeatureConfig(overworld);
+	}
+
+	private static void addVein(List<OreVein> veins, boolean enabled, TRContent.Ores ore, Predicate<BlockState> target, int veinSize, int veinsPerChunk) {
+		if (enabled) {
+			veins.add(new OreVein(ore, target, veinSize, veinsPerChunk));
+		}
+	}
+
+	private static void compileCategoryFeatures() {
+		ConfiguredFeature<?, ?> overworldOreFeature = createOreFeature(overworldOres);
+		ConfiguredFeature<?, ?> netherOreFeature = createOreFeature(netherOres);
+		ConfiguredFeature<?, ?> endOreFeature = createOreFeature(endOres);
+
+		for (Category category : Category.values()) {
+			List<Pair<GenerationStep.Feature, ConfiguredFeature<?, ?>>> features = new ArrayList<>();
+			if (category == Category.NETHER) {
+				if (!netherOres.isEmpty()) {
+					features.add(Pair.of(GenerationStep.Feature.UNDERGROUND_ORES, netherOreFeature));
+				}
+			} else if (category == Category.THEEND) {
+				if (!endOres.isEmpty()) {
+					features.add(Pair.of(GenerationStep.Feature.UNDERGROUND_ORES, endOreFeature));
+				}
+			} else {
+				if (!overworldOres.isEmpty()) {
+					features.add(Pair.of(GenerationStep.Feature.UNDERGROUND_ORES, overworldOreFeature));
+				}
+
+				if (category == Category.FOREST || category == Category.TAIGA || category == Category.SWAMP) {
+					features.add(Pair.of(GenerationStep.Feature.VEGETAL_DECORATION,
+							RUBBER_TREE_FEATURE.configure(RUBBER_TREE_CONFIG)
+									.createDecoratedFeature(Decorator.COUNT_EXTRA_HEIGHTMAP
+											.configure(new CountExtraChanceDecoratorConfig(category == Category.SWAMP ? 1 : 0, TechRebornConfig.RubberTreeChance, TechRebornConfig.RubberTreeCount))
+									)
+					));
+				}
+			}
+			categoryFeatures.put(category, features);
+		}
+	}
+
+	private static ConfiguredFeature<?, ?> createOreFeature(TROreFeatureConfig config) {
+		return ORE_FEATURE.configure(config).createDecoratedFeature(Decorator.NOPE.configure(DecoratorConfig.DEFAULT));
+	}
+
 	private static void addToBiome(Biome biome){
-		if(checkedBiomes.contains(biome)){
+		if(!checkedBiomes.add(biome)){
 			//Just to be sure we dont add the stuff twice to the same biome
 			return;
 		}
-		checkedBiomes.add(biome);
 
-		if (biome.getCategory() == Category.NETHER) {
-			if (TechRebornConfig.enableCinnabarOre){
-				addOre(biome, OreFeatureConfig.Target.NETHERRACK, TRContent.Ores.CINNABAR);
-			}
-			if (TechRebornConfig.enablePyriteOre){
-				addOre(biome, OreFeatureConfig.Target.NETHERRACK, TRContent.Ores.PYRITE);
-			}
-			if (TechRebornConfig.enableSphaleriteOre){
-				addOre(biome, OreFeatureConfig.Target.NETHERRACK, TRContent.Ores.SPHALERITE);
-			}
-		} else if (biome.getCategory() == Category.THEEND) {
-			if (TechRebornConfig.enablePeridotOre){
-				addEndOre(biome, TRContent.Ores.PERIDOT);
-			}
-			if (TechRebornConfig.enableSheldoniteOre){
-				addEndOre(biome, TRContent.Ores.SHELDONITE);
-			}
-			if (TechRebornConfig.enableSodaliteOre){
-				addEndOre(biome, TRContent.Ores.SODALITE);
-			}
-			if (TechRebornConfig.enableTungstenOre){
-				addEndOre(biome, TRContent.Ores.TUNGSTEN);
-			}
-		} else {
-			if (TechRebornConfig.enableBauxiteOre){
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.BAUXITE);
-			}
-			if (TechRebornConfig.enableCopperOre){
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.COPPER);
-			}
-			if (TechRebornConfig.enableGalenaOre){
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.GALENA);
-			}
-			if (TechRebornConfig.enableIridiumOre){
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.IRIDIUM);
-			}
-			if (TechRebornConfig.enableLeadOre){
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.LEAD);
-			}
-			if (TechRebornConfig.enableRubyOre){
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.RUBY);
-			}
-			if (TechRebornConfig.enableSapphireOre) {
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.SAPPHIRE);
-			}
-			if (TechRebornConfig.enableSilverOre) {
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.SILVER);
-			}
-			if (TechRebornConfig.enableTinOre) {
-				addOre(biome, OreFeatureConfig.Target.NATURAL_STONE, TRContent.Ores.TIN);
-			}
-
-			if (biome.getCategory() == Category.FOREST || biome.getCategory() == Category.TAIGA || biome.getCategory() == Category.SWAMP) {
-				biome.addFeature(GenerationStep.Feature.VEGETAL_DECORATION,
-						RUBBER_TREE_FEATURE.configure(RUBBER_TREE_CONFIG)
-								.createDecoratedFeature(Decorator.COUNT_EXTRA_HEIGHTMAP
-										.configure(new CountExtraChanceDecoratorConfig(biome.getCategory() == Category.SWAMP ? 1 : 0, TechRebornConfig.RubberTreeChance, TechRebornConfig.RubberTreeCount))
-								)
-				);
-			}
+		for (Pair<GenerationStep.Feature, ConfiguredFeature<?, ?>> feature : categoryFeatures.get(biome.getCategory())) {
+			biome.addFeature(feature.getFirst(), feature.getSecond());
 		}
 	}
 
-	private static void addOre(Biome biome, Target canReplaceIn, TRContent.Ores ore) {
-		biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES, Feature.ORE.configure(
-				new OreFeatureConfig(canReplaceIn, ore.block.getDefaultState(), ore.veinSize)).createDecoratedFeature(Decorator.COUNT_RANGE.configure(
-				new RangeDecoratorConfig(ore.veinsPerChunk, ore.minY, ore.minY, ore.maxY))));
+	public static TROreFeatureConfig getOverworldOres() {
+		return overworldOres;
+	}
+
+	public static TROreFeatureConfig getNetherOres() {
+		return netherOres;
 	}
 
-	private static void addEndOre(Biome biome, TRContent.Ores ore) {
-		biome.addFeature(GenerationStep.Feature.UNDERGROUND_ORES, CustomOreFeature.CUSTOM_ORE_FEATURE.configure(
-				new CustomOreFeatureConfig(blockState -> blockState.getBlock() == Blocks.END_STONE, ore.block.getDefaultState(), ore.veinSize)).createDecoratedFeature(Decorator.COUNT_RANGE.configure(
-				new RangeDecoratorConfig(ore.veinsPerChunk, ore.minY, ore.minY, ore.maxY))));
+	public static TROreFeatureConfig getEndOres() {
+		return endOres;
 	}
-}
\ No newline at end of file
+}